@@ -13,10 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.anttasks.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
 import java.util.Properties;
 
 import org.eclipse.core.resources.IFolder;
@@ -148,4 +150,32 @@ public class ApiToolingAnalysisAntTaskTests extends AntRunnerTestCase {
 		assertTrue("deltatest folder must exist", folder.exists()); //$NON-NLS-1$
 		assertTrue("report.xml file must be there", folder.getFile("report.xml").exists()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
+
+	/**
+	 * Tests that analyzing the components on several threads reports the same
+	 * problems as analyzing them one after the other
+	 */
+	@Test
+	public void test8() throws Exception {
+		IFolder buildFolder = newTest("test8"); //$NON-NLS-1$
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		String[] components = new String[] { "deltatest", "deltatest1", "deltatest2" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (String threads : new String[] { "1", "2" }) { //$NON-NLS-1$ //$NON-NLS-2$
+			IFolder reportFolder = buildFolder.getFolder("report" + threads); //$NON-NLS-1$
+			Properties properties = new Properties();
+			properties.put("reference_location", buildFolder.getFile("before").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+			properties.put("current_location", buildFolder.getFile("after").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+			properties.put("report_location", reportFolder.getLocation().toOSString()); //$NON-NLS-1$
+			properties.put("threads", threads); //$NON-NLS-1$
+			runAntScript(buildXMLPath, new String[] { "run" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+			for (String component : components) {
+				assertTrue(component + " report.xml file must be there", reportFolder.getFolder(component).getFile("report.xml").exists()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		for (String component : components) {
+			String sequential = Files.readString(buildFolder.getFolder("report1").getFolder(component).getFile("report.xml").getLocation().toPath()); //$NON-NLS-1$ //$NON-NLS-2$
+			String parallel = Files.readString(buildFolder.getFolder("report2").getFolder(component).getFile("report.xml").getLocation().toPath()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals(component + " report must not depend on the number of threads", sequential, parallel); //$NON-NLS-1$
+		}
+	}
 }
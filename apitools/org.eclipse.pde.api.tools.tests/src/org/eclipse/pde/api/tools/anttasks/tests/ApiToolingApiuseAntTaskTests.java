@@ -13,13 +13,31 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.anttasks.tests;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -28,6 +46,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
 import org.junit.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
@@ -167,4 +186,184 @@ public class ApiToolingApiuseAntTaskTests extends AntRunnerTestCase {
 		}
 	}
 
+	/**
+	 * Tests that a scan reusing the references cached by a previous scan
+	 * writes the same report and counts, and that changing a prerequisite of
+	 * a component invalidates its cached references
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCache() throws Exception {
+		IFolder buildFolder = newTest(getTestResourcesFolder(), new String[] {
+				"testCache", "profile" }); //$NON-NLS-1$ //$NON-NLS-2$
+		File cacheDir = buildFolder.getLocation().append("cache").toFile(); //$NON-NLS-1$
+		File reportDir = buildFolder.getLocation().append("report").toFile(); //$NON-NLS-1$
+
+		runCachedScan(buildFolder, "OSGiProduct.zip"); //$NON-NLS-1$
+		Map<String, String> report = readReport(reportDir);
+		assertNotNull("counts.xml must exist", report.get("counts.xml")); //$NON-NLS-1$ //$NON-NLS-2$
+		File clientEntry = new File(cacheDir, "org.example.test.client.refs"); //$NON-NLS-1$
+		File unrelatedEntry = new File(cacheDir, "org.example.test.oldstyle.usage.refs"); //$NON-NLS-1$
+		assertTrue("the references of the client must be cached", clientEntry.isFile()); //$NON-NLS-1$
+		assertTrue("the references of the oldstyle usage must be cached", unrelatedEntry.isFile()); //$NON-NLS-1$
+		byte[] clientBytes = Files.readAllBytes(clientEntry.toPath());
+		byte[] unrelatedBytes = Files.readAllBytes(unrelatedEntry.toPath());
+
+		runCachedScan(buildFolder, "OSGiProduct.zip"); //$NON-NLS-1$
+		assertEquals("the cached scan should write the same report and counts", report, readReport(reportDir)); //$NON-NLS-1$
+		assertArrayEquals("the entry of the client should be reused", clientBytes, Files.readAllBytes(clientEntry.toPath())); //$NON-NLS-1$
+
+		// the client imports a package of org.example.test.osgi.core
+		File changed = buildFolder.getLocation().append("OSGiProductChanged.zip").toFile(); //$NON-NLS-1$
+		changeBundle(buildFolder.getFile("OSGiProduct.zip").getLocation().toFile(), changed, "org.example.test.osgi.core_"); //$NON-NLS-1$ //$NON-NLS-2$
+		runCachedScan(buildFolder, changed.getName());
+		assertEquals("the rescanned components should have the same report and counts", report, readReport(reportDir)); //$NON-NLS-1$
+		assertFalse("the entry of the client should be replaced", Arrays.equals(clientBytes, Files.readAllBytes(clientEntry.toPath()))); //$NON-NLS-1$
+		assertArrayEquals("the entry of the oldstyle usage should be reused", unrelatedBytes, Files.readAllBytes(unrelatedEntry.toPath())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that converting a use scan with several threads and incrementally
+	 * writes the same pages as a sequential conversion, that the pages of
+	 * components whose XML files were only written again are kept and that the
+	 * pages of components no longer in the scan are deleted
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConversion() throws Exception {
+		IFolder buildFolder = newTest(getTestResourcesFolder(), new String[] {
+				"testConversion", "profile" }); //$NON-NLS-1$ //$NON-NLS-2$
+		File reportDir = buildFolder.getLocation().append("report").toFile(); //$NON-NLS-1$
+		File htmlDir = buildFolder.getLocation().append("html").toFile(); //$NON-NLS-1$
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		Properties properties = new Properties();
+		properties.put("baseline_location", buildFolder.getFile("OSGiProduct.zip").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("report_location", reportDir.getAbsolutePath()); //$NON-NLS-1$
+		runAntScript(buildXMLPath, new String[] { "run" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+
+		runConversion(buildFolder, htmlDir, 2, true);
+		Map<String, String> pages = readHtmlReport(htmlDir);
+		assertFalse("the conversion should write pages", pages.isEmpty()); //$NON-NLS-1$
+		assertEquals("the concurrent conversion should write the same pages", convertSequentially(buildFolder, "html1"), pages); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// the use scan writes all its files again
+		File[] components = reportDir.listFiles(File::isDirectory);
+		assertNotNull("the scan should have referenced components", components); //$NON-NLS-1$
+		assertTrue("the scan should have referenced components", components.length > 1); //$NON-NLS-1$
+		Arrays.sort(components);
+		try (Stream<Path> walk = Files.walk(reportDir.toPath())) {
+			for (Path path : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+				assertTrue("the modification time must be set", path.toFile().setLastModified(System.currentTimeMillis() + 10000)); //$NON-NLS-1$
+			}
+		}
+		File[] states = new File(htmlDir, ".report_state").listFiles(); //$NON-NLS-1$
+		assertNotNull("the state of the components should be written", states); //$NON-NLS-1$
+		Map<File, Long> modified = new TreeMap<>();
+		for (File state : states) {
+			assertTrue("the modification time must be set", state.setLastModified(10000)); //$NON-NLS-1$
+			modified.put(state, Long.valueOf(state.lastModified()));
+		}
+		runConversion(buildFolder, htmlDir, 2, true);
+		for (Map.Entry<File, Long> entry : modified.entrySet()) {
+			assertEquals("the pages of an unchanged component should be kept", entry.getValue().longValue(), entry.getKey().lastModified()); //$NON-NLS-1$
+		}
+		assertEquals("the kept pages should be the same", pages, readHtmlReport(htmlDir)); //$NON-NLS-1$
+
+		FileUtils.delete(components[0].getAbsolutePath());
+		runConversion(buildFolder, htmlDir, 2, true);
+		assertEquals("the pages of a removed component should be deleted", convertSequentially(buildFolder, "html2"), readHtmlReport(htmlDir)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private Map<String, String> convertSequentially(IFolder buildFolder, String name) throws Exception {
+		File htmlDir = buildFolder.getLocation().append(name).toFile();
+		runConversion(buildFolder, htmlDir, 1, false);
+		return readHtmlReport(htmlDir);
+	}
+
+	private void runConversion(IFolder buildFolder, File htmlDir, int threads, boolean incremental) throws Exception {
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		Properties properties = new Properties();
+		properties.put("report_location", buildFolder.getLocation().append("report").toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("html_location", htmlDir.getAbsolutePath()); //$NON-NLS-1$
+		properties.put("threads", Integer.toString(threads)); //$NON-NLS-1$
+		properties.put("incremental", Boolean.toString(incremental)); //$NON-NLS-1$
+		runAntScript(buildXMLPath, new String[] { "convert" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the contents of the pages of an HTML report by path, without the
+	 * state kept for incremental conversions
+	 */
+	private Map<String, String> readHtmlReport(File htmlDir) throws IOException {
+		Map<String, String> report = readReport(htmlDir);
+		report.keySet().removeIf(name -> name.startsWith(".report_state")); //$NON-NLS-1$
+		return report;
+	}
+
+	private void runCachedScan(IFolder buildFolder, String baseline) throws Exception {
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		Properties properties = new Properties();
+		properties.put("baseline_location", buildFolder.getFile(baseline).getLocation().toOSString()); //$NON-NLS-1$
+		properties.put("report_location", buildFolder.getLocation().append("report").toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("filter_location", buildFolder.getLocation().toOSString()); //$NON-NLS-1$
+		properties.put("cache_location", buildFolder.getLocation().append("cache").toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		runAntScript(buildXMLPath, new String[] { "run" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the contents of the files of the report by path, except the
+	 * metadata that holds the time of the scan
+	 */
+	private Map<String, String> readReport(File reportDir) throws IOException {
+		Map<String, String> report = new TreeMap<>();
+		Path root = reportDir.toPath();
+		try (Stream<Path> walk = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+				String name = root.relativize(path).toString();
+				if (!"meta.xml".equals(name)) { //$NON-NLS-1$
+					report.put(name, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+				}
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Copies the given baseline archive, adding a resource to the jar of the
+	 * bundle whose file name starts with the given prefix
+	 */
+	private void changeBundle(File baseline, File changed, String prefix) throws IOException {
+		try (ZipFile zip = new ZipFile(baseline); ZipOutputStream out = new ZipOutputStream(new FileOutputStream(changed))) {
+			for (ZipEntry entry : (Iterable<ZipEntry>) zip.stream()::iterator) {
+				byte[] bytes;
+				try (InputStream in = zip.getInputStream(entry)) {
+					bytes = in.readAllBytes();
+				}
+				if (new File(entry.getName()).getName().startsWith(prefix)) {
+					bytes = addResource(bytes);
+				}
+				out.putNextEntry(new ZipEntry(entry.getName()));
+				out.write(bytes);
+				out.closeEntry();
+			}
+		}
+	}
+
+	private byte[] addResource(byte[] jar) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(jar)); ZipOutputStream out = new ZipOutputStream(bytes)) {
+			ZipEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				out.putNextEntry(new ZipEntry(entry.getName()));
+				out.write(in.readAllBytes());
+				out.closeEntry();
+			}
+			out.putNextEntry(new ZipEntry("changed.txt")); //$NON-NLS-1$
+			out.write("changed".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			out.closeEntry();
+		}
+		return bytes.toByteArray();
+	}
 }
@@ -75,4 +75,42 @@ public class OSGiLessAnalysisTests {
 		baseline.dispose();
 		current.dispose();
 	}
+
+	/**
+	 * Tests that the changed types of a component, which are compared
+	 * concurrently, report the same compatibility problems as each type
+	 * compared on its own
+	 */
+	@Test
+	public void testConcurrentCompatibilityCheck() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", new Path("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiBaseline current = TestSuiteHelper.createTestingBaseline("current", new Path("test-analyzer-2")); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiComponent component = current.getApiComponent("test.bundle.a"); //$NON-NLS-1$
+		assertNotNull("Missing API component test.bundle.a", component); //$NON-NLS-1$
+		String[] typeNames = new String[] {
+				"test.bundle.a.APublicClass", //$NON-NLS-1$
+				"test.bundle.a.APublicInterface", //$NON-NLS-1$
+				"test.bundle.internal.a.AnInternalClass", //$NON-NLS-1$
+				"test.bundle.internal.a.AnInternalInterface" }; //$NON-NLS-1$
+		BuildContext context = new BuildContext();
+		Set<String> expected = new HashSet<>();
+		for (String typeName : typeNames) {
+			context.recordStructuralChange(typeName);
+			// a single changed type is compared on the calling thread
+			BuildContext single = new BuildContext();
+			single.recordStructuralChange(typeName);
+			expected.addAll(analyze(baseline, component, single));
+		}
+		Set<String> problems = analyze(baseline, component, context);
+		assertEquals("The concurrent check should report the compatibility problems of the serial check", expected, problems); //$NON-NLS-1$
+		baseline.dispose();
+		current.dispose();
+	}
+
+	private Set<String> analyze(IApiBaseline baseline, IApiComponent component, BuildContext context) {
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		analyzer.analyzeComponent(null, null, null, baseline, component, context, new NullProgressMonitor());
+		// the version problems depend on all the changes of the component
+		return Arrays.stream(analyzer.getProblems()).filter(problem -> problem.getCategory() == IApiProblem.CATEGORY_COMPATIBILITY).map(problem -> problem.getId() + ":" + problem.getTypeName() + ":" + Arrays.toString(problem.getMessageArguments())).collect(Collectors.toSet()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
 }
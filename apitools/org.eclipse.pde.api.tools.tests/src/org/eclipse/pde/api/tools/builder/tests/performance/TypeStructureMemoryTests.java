@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures the heap used by the type structures of all the types of a
+ * baseline created from the bundles of the workspace target
+ */
+public class TypeStructureMemoryTests extends PerformanceTestCase {
+
+	public TypeStructureMemoryTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(TypeStructureMemoryTests.class);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ApiModelCache.getCache().flushCaches();
+		super.tearDown();
+	}
+
+	/**
+	 * Builds the structure of every type of the baseline and keeps them while
+	 * the heap is measured. The members of one type in ten are requested, as
+	 * an analysis only looks at the members of the types it compares or
+	 * resolves references to.
+	 *
+	 * @throws Exception
+	 */
+	public void testTypeStructureHeap() throws Exception {
+		tagAsSummary("Heap used by the type structures of a baseline", Dimension.USED_JAVA_HEAP); //$NON-NLS-1$
+		ITargetPlatformService service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
+		ITargetDefinition definition = service.getWorkspaceTargetDefinition();
+
+		for (int i = 0; i < 3; i++) {
+			IApiBaseline baseline = createBaseline(definition, new NullProgressMonitor());
+			List<IApiType> types = new ArrayList<>();
+			try {
+				ApiModelCache.getCache().flushCaches();
+				System.gc();
+				startMeasuring();
+				for (IApiComponent component : baseline.getApiComponents()) {
+					if (!component.isSystemComponent()) {
+						collectTypes(component, types);
+					}
+				}
+				System.gc();
+				stopMeasuring();
+				System.out.println("Type structures of " + baseline.getApiComponents().length + " components: " + types.size()); //$NON-NLS-1$ //$NON-NLS-2$
+			} finally {
+				types.clear();
+				baseline.dispose();
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void collectTypes(IApiComponent component, final List<IApiType> types) throws CoreException {
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				try {
+					IApiType type = typeroot.getStructure();
+					if (type != null) {
+						if (types.size() % 10 == 0) {
+							type.getMethods();
+							type.getFields();
+						}
+						types.add(type);
+					}
+				} catch (CoreException e) {
+					fail(e.getMessage());
+				}
+			}
+		});
+	}
+
+	private IApiBaseline createBaseline(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
+		SubMonitor localmonitor = SubMonitor.convert(monitor, "", 10); //$NON-NLS-1$
+		definition.resolve(localmonitor.split(2));
+		localmonitor.split(1);
+		TargetBundle[] bundles = definition.getBundles();
+		List<IApiComponent> components = new ArrayList<>();
+		IApiBaseline profile = ApiModelFactory.newApiBaseline(definition.getName());
+		localmonitor.setWorkRemaining(bundles.length);
+		for (TargetBundle bundle : bundles) {
+			localmonitor.split(1);
+			if (bundle.getStatus().isOK() && !bundle.isSourceBundle()) {
+				IApiComponent component = ApiModelFactory.newApiComponent(profile,
+						URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
+				if (component != null) {
+					components.add(component);
+				}
+			}
+		}
+		profile.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+		return profile;
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.AntFilterStore;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AntFilterStore} used by the API tools Ant tasks
+ */
+public class AntFilterStoreTests {
+
+	private static final IPath XML_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-xml"); //$NON-NLS-1$
+	private static final String COMPONENT_ID = "APIPluginTests"; //$NON-NLS-1$
+
+	private File fFiltersRoot;
+
+	@Before
+	public void setUp() throws Exception {
+		fFiltersRoot = Files.createTempDirectory("antfilters").toFile(); //$NON-NLS-1$
+		File componentDir = new File(fFiltersRoot, COMPONENT_ID);
+		assertTrue("the component filter dir must be created", componentDir.mkdirs()); //$NON-NLS-1$
+		Files.copy(XML_LOC.append(".api_filters").toFile().toPath(), new File(componentDir, IApiCoreConstants.API_FILTERS_XML_NAME).toPath()); //$NON-NLS-1$
+		AntFilterStore.filteredAPIProblems.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		AntFilterStore.filteredAPIProblems.clear();
+		FileUtils.delete(fFiltersRoot.getAbsolutePath());
+	}
+
+	/**
+	 * Tests that all the problems filtered by stores of components analyzed
+	 * at the same time are recorded
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testFilteredProblemsFromThreads() throws Exception {
+		final int threads = 4;
+		final int problems = 2000;
+		final IApiProblem filtered = ApiProblemFactory.newApiProblem("src/x/y/z/C4.java", null, null, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_IMPLEMENT, IApiProblem.NO_FLAGS); //$NON-NLS-1$
+		final IApiProblem notFiltered = ApiProblemFactory.newApiProblem("src/x/y/z/C4.java", null, null, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS); //$NON-NLS-1$
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>(threads);
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					AntFilterStore store = new AntFilterStore(fFiltersRoot.getAbsolutePath(), COMPONENT_ID);
+					int count = 0;
+					for (int j = 0; j < problems; j++) {
+						if (store.isFiltered(filtered)) {
+							count++;
+						}
+						if (store.isFiltered(notFiltered)) {
+							count--;
+						}
+					}
+					return Integer.valueOf(count);
+				}));
+			}
+			for (Future<Integer> future : futures) {
+				assertEquals("every usage problem of src/x/y/z/C4.java should be filtered", problems, future.get().intValue()); //$NON-NLS-1$
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals("all the filtered problems should be recorded", threads * problems, AntFilterStore.filteredAPIProblems.size()); //$NON-NLS-1$
+	}
+}
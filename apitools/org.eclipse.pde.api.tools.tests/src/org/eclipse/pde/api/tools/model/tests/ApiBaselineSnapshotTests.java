@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ApiBaselineSnapshot} of the bundle data of a persisted
+ * baseline
+ */
+public class ApiBaselineSnapshotTests {
+
+	private static final String API_DESCRIPTION = "<component name=\"a.b.c\" version=\"1.2\"/>"; //$NON-NLS-1$
+
+	private File fRoot;
+	private File fJar;
+	private File fDirectory;
+
+	@Before
+	public void setUp() throws Exception {
+		fRoot = Files.createTempDirectory("snapshot").toFile(); //$NON-NLS-1$
+		fJar = new File(fRoot, "a.b.c_1.0.0.jar"); //$NON-NLS-1$
+		Files.write(fJar.toPath(), new byte[] { 1, 2, 3 });
+		fDirectory = new File(fRoot, "d.e.f_1.0.0"); //$NON-NLS-1$
+		File manifest = new File(fDirectory, JarFile.MANIFEST_NAME);
+		assertTrue("the bundle directory must be created", manifest.getParentFile().mkdirs()); //$NON-NLS-1$
+		Files.write(manifest.toPath(), "Bundle-SymbolicName: d.e.f\n".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		File packageDir = new File(fDirectory, "d/e/f"); //$NON-NLS-1$
+		assertTrue("the package directory must be created", packageDir.mkdirs()); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.delete(fRoot.getAbsolutePath());
+	}
+
+	/**
+	 * Tests that the data of a bundle is the same once the snapshot is written
+	 * and read again
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRoundTrip() throws Exception {
+		Map<String, String> headers = Collections.singletonMap("Bundle-SymbolicName", "a.b.c"); //$NON-NLS-1$ //$NON-NLS-2$
+		Set<String> packages = new HashSet<>(Arrays.asList("a.b.c", "a.b.c.internal")); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiBaselineSnapshot snapshot = new ApiBaselineSnapshot();
+		snapshot.setManifest(fJar, headers);
+		snapshot.setApiDescription(fJar, API_DESCRIPTION);
+		snapshot.setPackageNames(fJar, packages);
+		snapshot.setApiDescription(fDirectory, null);
+		assertTrue("the snapshot should need to be written", snapshot.isDirty()); //$NON-NLS-1$
+
+		File file = new File(fRoot, "baseline.snapshot"); //$NON-NLS-1$
+		snapshot.write(file, Arrays.asList(fJar.getAbsolutePath(), fDirectory.getAbsolutePath()));
+		assertFalse("the snapshot should be written", snapshot.isDirty()); //$NON-NLS-1$
+
+		ApiBaselineSnapshot read = ApiBaselineSnapshot.read(file);
+		assertFalse("a read snapshot should not need to be written", read.isDirty()); //$NON-NLS-1$
+		assertEquals("the manifest should be read", headers, read.getManifest(fJar)); //$NON-NLS-1$
+		assertTrue("the .api_description should be known", read.isApiDescriptionKnown(fJar)); //$NON-NLS-1$
+		assertEquals("the .api_description should be read", API_DESCRIPTION, read.getApiDescription(fJar)); //$NON-NLS-1$
+		assertEquals("the package names should be read", packages, read.getPackageNames(fJar)); //$NON-NLS-1$
+		assertTrue("the missing .api_description should be known", read.isApiDescriptionKnown(fDirectory)); //$NON-NLS-1$
+		assertNull("the directory should have no .api_description", read.getApiDescription(fDirectory)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a snapshot that was read keeps the data of its file when it
+	 * is completed and written again to the same file, and that the file is
+	 * replaced without leaving a temporary file
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRewrite() throws Exception {
+		Map<String, String> headers = Collections.singletonMap("Bundle-SymbolicName", "a.b.c"); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiBaselineSnapshot snapshot = new ApiBaselineSnapshot();
+		snapshot.setManifest(fJar, headers);
+		snapshot.setApiDescription(fJar, API_DESCRIPTION);
+		File file = new File(fRoot, "baseline.snapshot"); //$NON-NLS-1$
+		Set<String> locations = new HashSet<>(Arrays.asList(fJar.getAbsolutePath(), fDirectory.getAbsolutePath()));
+		snapshot.write(file, locations);
+
+		ApiBaselineSnapshot read = ApiBaselineSnapshot.read(file);
+		Set<String> packages = Collections.singleton("a.b.c"); //$NON-NLS-1$
+		read.setPackageNames(fJar, packages);
+		read.setApiDescription(fDirectory, null);
+		assertTrue("the snapshot should need to be written", read.isDirty()); //$NON-NLS-1$
+		read.write(file, locations);
+		assertFalse("no temporary file should be left", new File(fRoot, "baseline.snapshot.tmp").exists()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("the written snapshot should still read its data", headers, read.getManifest(fJar)); //$NON-NLS-1$
+
+		ApiBaselineSnapshot reread = ApiBaselineSnapshot.read(file);
+		assertEquals("the manifest should be kept", headers, reread.getManifest(fJar)); //$NON-NLS-1$
+		assertEquals("the .api_description should be kept", API_DESCRIPTION, reread.getApiDescription(fJar)); //$NON-NLS-1$
+		assertEquals("the package names should be written", packages, reread.getPackageNames(fJar)); //$NON-NLS-1$
+		assertTrue("the missing .api_description should be written", reread.isApiDescriptionKnown(fDirectory)); //$NON-NLS-1$
+		assertNull("the directory should have no .api_description", reread.getApiDescription(fDirectory)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the entry of a jar is not used once the jar changed
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStaleJarEntry() throws Exception {
+		ApiBaselineSnapshot snapshot = new ApiBaselineSnapshot();
+		snapshot.setManifest(fJar, Collections.singletonMap("Bundle-SymbolicName", "a.b.c")); //$NON-NLS-1$ //$NON-NLS-2$
+		snapshot.setPackageNames(fJar, Collections.singleton("a.b.c")); //$NON-NLS-1$
+		File file = new File(fRoot, "baseline.snapshot"); //$NON-NLS-1$
+		snapshot.write(file, Collections.singleton(fJar.getAbsolutePath()));
+
+		long modified = fJar.lastModified();
+		Files.write(fJar.toPath(), new byte[] { 1, 2, 3, 4 });
+		assertTrue("the jar modification time must be set", fJar.setLastModified(modified + 2000)); //$NON-NLS-1$
+
+		ApiBaselineSnapshot read = ApiBaselineSnapshot.read(file);
+		assertNull("the manifest of a changed jar should not be used", read.getManifest(fJar)); //$NON-NLS-1$
+		assertNull("the packages of a changed jar should not be used", read.getPackageNames(fJar)); //$NON-NLS-1$
+		assertFalse("the .api_description of a changed jar should not be known", read.isApiDescriptionKnown(fJar)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the entry of a directory is not used once its manifest
+	 * changed and that its package names, which the fingerprint of the
+	 * directory does not cover, are never kept
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStaleDirectoryEntry() throws Exception {
+		ApiBaselineSnapshot snapshot = new ApiBaselineSnapshot();
+		snapshot.setManifest(fDirectory, Collections.singletonMap("Bundle-SymbolicName", "d.e.f")); //$NON-NLS-1$ //$NON-NLS-2$
+		snapshot.setPackageNames(fDirectory, Collections.singleton("d.e.f")); //$NON-NLS-1$
+		assertNull("the packages of a directory should not be kept", snapshot.getPackageNames(fDirectory)); //$NON-NLS-1$
+		File file = new File(fRoot, "baseline.snapshot"); //$NON-NLS-1$
+		snapshot.write(file, Collections.singleton(fDirectory.getAbsolutePath()));
+
+		// a new package does not change the fingerprint of the directory
+		assertTrue("the package directory must be created", new File(fDirectory, "d/e/f/internal").mkdirs()); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiBaselineSnapshot read = ApiBaselineSnapshot.read(file);
+		assertEquals("the manifest of the directory should be read", "d.e.f", read.getManifest(fDirectory).get("Bundle-SymbolicName")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNull("the packages of a directory should not be read", read.getPackageNames(fDirectory)); //$NON-NLS-1$
+
+		File manifest = new File(fDirectory, JarFile.MANIFEST_NAME);
+		assertTrue("the manifest modification time must be set", manifest.setLastModified(manifest.lastModified() + 2000)); //$NON-NLS-1$
+		assertNull("the manifest of a changed directory should not be used", read.getManifest(fDirectory)); //$NON-NLS-1$
+	}
+}
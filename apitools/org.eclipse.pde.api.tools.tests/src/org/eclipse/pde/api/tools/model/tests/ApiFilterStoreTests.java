@@ -21,6 +21,8 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -249,6 +251,72 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that the filters {@link ApiFilterStore#isFiltered(IApiProblem)}
+	 * looks up by problem id and type name filter the same problems as
+	 * matching the problem against every filter of the resource
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testIsFilteredMatchesAllFilters() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(new Path("src/x/y/z/C4.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/y/z/C4.java must exist", resource); //$NON-NLS-1$
+		String path = resource.getProjectRelativePath().toPortableString();
+		String[] typeNames = new String[] { null, "x.y.z.C4", "x.y.z.C4.Inner" }; //$NON-NLS-1$ //$NON-NLS-2$
+		int[] kinds = new int[] { IApiProblem.ILLEGAL_IMPLEMENT, IApiProblem.ILLEGAL_EXTEND, IApiProblem.ILLEGAL_INSTANTIATE };
+		String[][] arguments = new String[][] { new String[0], new String[] { "m()" }, new String[] { "n()" } }; //$NON-NLS-1$ //$NON-NLS-2$
+		IApiFilterStore store = component.getFilterStore();
+		List<IApiProblemFilter> added = new ArrayList<>();
+		for (int i = 0; i < typeNames.length; i++) {
+			for (int j = 0; j < kinds.length; j++) {
+				if ((i + j) % 3 == 2) {
+					continue;
+				}
+				IApiProblem problem = ApiProblemFactory.newApiProblem(path, typeNames[i], new String[] { "m()" }, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, kinds[j], IApiProblem.NO_FLAGS); //$NON-NLS-1$
+				added.add(ApiProblemFactory.newProblemFilter(component.getSymbolicName(), problem, null));
+			}
+		}
+		store.addFilters(added.toArray(new IApiProblemFilter[added.size()]));
+		IApiProblemFilter[] filters = store.getFilters(resource);
+		LinearFilterStore linear = new LinearFilterStore();
+		int filtered = 0;
+		int count = 0;
+		for (String typeName : typeNames) {
+			for (int kind : kinds) {
+				for (String[] args : arguments) {
+					IApiProblem problem = ApiProblemFactory.newApiProblem(path, typeName, args, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, kind, IApiProblem.NO_FLAGS);
+					boolean expected = linear.matchesAny(filters, problem);
+					assertEquals("the filter store must filter " + problem + " as any of its filters would", expected, store.isFiltered(problem)); //$NON-NLS-1$ //$NON-NLS-2$
+					if (expected) {
+						filtered++;
+					}
+					count++;
+				}
+			}
+		}
+		assertTrue("some problems should be filtered", filtered > 0); //$NON-NLS-1$
+		assertTrue("some problems should not be filtered", filtered < count); //$NON-NLS-1$
+		store.removeFilters(added.toArray(new IApiProblemFilter[added.size()]));
+	}
+
+	/**
+	 * Matches problems against filters one filter at a time
+	 */
+	private static class LinearFilterStore extends FilterStore {
+		boolean matchesAny(IApiProblemFilter[] filters, IApiProblem problem) {
+			for (IApiProblemFilter filter : filters) {
+				if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 *
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.model.ApiField;
+import org.eclipse.pde.api.tools.internal.model.ApiMethod;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the fields and methods of {@link ApiType}, which are read on demand
+ * for the types of archives and looked up through an index for large types
+ */
+public class ApiTypeMembersTests {
+
+	/**
+	 * Class with more members than the lookups of {@link ApiType} handle
+	 * without an index
+	 */
+	static class Fixture {
+		public int f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19;
+
+		public void m0() {
+		}
+
+		public void m1() {
+		}
+
+		public void m2() {
+		}
+
+		public void m3() {
+		}
+
+		public void m4() {
+		}
+
+		public void m5() {
+		}
+
+		public void m6() {
+		}
+
+		public void m7() {
+		}
+
+		public void m8() {
+		}
+
+		public void m9() {
+		}
+
+		public void m10() {
+		}
+
+		public void m11() {
+		}
+
+		public void m12() {
+		}
+
+		public void m13() {
+		}
+
+		public void m14() {
+		}
+
+		public void m15() {
+		}
+
+		public void m16() {
+		}
+
+		public void m17() {
+		}
+
+		public void m18() {
+		}
+
+		public void m19() {
+		}
+
+		public void m19(int i) {
+		}
+	}
+
+	private File fRoot;
+
+	@Before
+	public void setUp() throws Exception {
+		fRoot = Files.createTempDirectory("members").toFile(); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.delete(fRoot.getAbsolutePath());
+	}
+
+	/**
+	 * Tests that the members of a type of an archive are found once they are
+	 * read on demand, through the index of a type with many members
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDeferredMembers() throws Exception {
+		IApiType type = buildFixtureType();
+		assertNotNull("the field should be found", type.getField("f19")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("the field should not be found", type.getField("f20")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("all fields should be read", 20, type.getFields().length); //$NON-NLS-1$
+		assertEquals("the fields should be in declaration order", "f0", type.getFields()[0].getName()); //$NON-NLS-1$ //$NON-NLS-2$
+
+		IApiMethod method = type.getMethod("m19", "(I)V"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("the overloaded method should be found", method); //$NON-NLS-1$
+		assertEquals("the signature should match", "(I)V", method.getSignature()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("the method should be found", type.getMethod("m19", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNotNull("the method should be found", type.getMethod("m0", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNull("the method should not be found", type.getMethod("m20", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		// the constructor and the 21 methods
+		assertEquals("all methods should be read", 22, type.getMethods().length); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a member added again replaces the existing one in place,
+	 * with and without an index
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDuplicateMembers() throws Exception {
+		ApiType type = new ApiType(null, "a.b.C", "La/b/C;", null, Flags.AccPublic, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addMethod("m", "()V", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiMethod method = type.addMethod("m", "()V", null, Flags.AccProtected, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addField("f", "I", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiField field = type.addField("f", "I", null, Flags.AccProtected, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("the method should be replaced", 1, type.getMethods().length); //$NON-NLS-1$
+		assertSame("the method should be replaced", method, type.getMethod("m", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("the field should be replaced", 1, type.getFields().length); //$NON-NLS-1$
+		assertSame("the field should be replaced", field, type.getField("f")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		for (int i = 0; i < 20; i++) {
+			type.addMethod("m" + i, "()V", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+			type.addField("f" + i, "I", null, Flags.AccPublic, null); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		// builds the indexes
+		assertNotNull("the method should be found", type.getMethod("m19", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNotNull("the field should be found", type.getField("f19")); //$NON-NLS-1$ //$NON-NLS-2$
+		method = type.addMethod("m5", "()V", null, Flags.AccProtected, null); //$NON-NLS-1$ //$NON-NLS-2$
+		field = type.addField("f5", "I", null, Flags.AccProtected, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("the indexed method should be replaced", 21, type.getMethods().length); //$NON-NLS-1$
+		assertSame("the indexed method should be replaced", method, type.getMethod("m5", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertSame("the method should keep its position", method, type.getMethods()[6]); //$NON-NLS-1$
+		assertEquals("the indexed field should be replaced", 21, type.getFields().length); //$NON-NLS-1$
+		assertSame("the indexed field should be replaced", field, type.getField("f5")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame("the field should keep its position", field, type.getFields()[6]); //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes the class file of {@link Fixture} to an archive and returns its
+	 * type structure
+	 */
+	private IApiType buildFixtureType() throws Exception {
+		String entryName = Fixture.class.getName().replace('.', '/') + ".class"; //$NON-NLS-1$
+		File jar = new File(fRoot, "fixture.jar"); //$NON-NLS-1$
+		try (InputStream stream = Fixture.class.getResourceAsStream('/' + entryName); JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			assertNotNull("the class file of the fixture must be found", stream); //$NON-NLS-1$
+			out.putNextEntry(new JarEntry(entryName));
+			stream.transferTo(out);
+			out.closeEntry();
+		}
+		ArchiveApiTypeContainer container = new ArchiveApiTypeContainer(null, jar.getAbsolutePath());
+		try {
+			IApiTypeRoot root = container.findTypeRoot(Fixture.class.getName());
+			assertNotNull("the type root should be found", root); //$NON-NLS-1$
+			IApiType type = root.getStructure();
+			assertNotNull("the type structure should be built", type); //$NON-NLS-1$
+			return type;
+		} finally {
+			container.close();
+		}
+	}
+}
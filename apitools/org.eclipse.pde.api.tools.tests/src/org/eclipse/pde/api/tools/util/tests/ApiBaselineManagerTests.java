@@ -19,6 +19,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Iterator;
@@ -58,7 +61,12 @@ import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -69,6 +77,7 @@ import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.api.tools.tests.AbstractApiTest;
 import org.eclipse.pde.api.tools.tests.util.FileUtils;
@@ -182,6 +191,7 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 	private IPath PLUGIN_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins"); //$NON-NLS-1$
 	private IApiBaselineManager fPMmanager = ApiPlugin.getDefault().getApiBaselineManager();
 	private final String TESTING_PACKAGE = "a.b.c"; //$NON-NLS-1$
+	private static final String API_DESCRIPTION_BINARY_NAME = ".api_description.bin"; //$NON-NLS-1$
 
 	/**
 	 * @return the {@link IApiDescription} for the testing project
@@ -858,6 +868,78 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 		assertTrue("unexported package must be private", VisibilityModifiers.isPrivate(annot.getVisibility())); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that the API description of a project is saved in the binary form
+	 * and restored from it in a new session
+	 */
+	@Test
+	public void testApiDescriptionBinaryRoundTrip() throws Exception {
+		IJavaProject project = getTestingProject();
+		ProjectComponent component = getTestingComponent(project);
+		String xml = ((ProjectApiDescription) component.getApiDescription()).getXML();
+
+		ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+		File dir = ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
+		assertTrue("the binary API description must be saved", new File(dir, API_DESCRIPTION_BINARY_NAME).isFile()); //$NON-NLS-1$
+		assertFalse("the API description must not be saved as XML", new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME).exists()); //$NON-NLS-1$
+
+		assertEquals("the restored API description must be the same", xml, restoreApiDescription(component)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an API description saved as XML by a previous version is
+	 * restored and saved in the binary form on the next save, also when a
+	 * binary file that cannot be read is present
+	 */
+	@Test
+	public void testApiDescriptionXmlMigration() throws Exception {
+		IJavaProject project = getTestingProject();
+		ProjectComponent component = getTestingComponent(project);
+		String xml = ((ProjectApiDescription) component.getApiDescription()).getXML();
+
+		File dir = ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
+		dir.mkdirs();
+		File xmlFile = new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		Util.saveFile(xmlFile, xml);
+		File binary = new File(dir, API_DESCRIPTION_BINARY_NAME);
+		// a package node without package fragments is rejected
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(binary))) {
+			out.writeInt(0x41504944);
+			out.writeInt(1);
+			out.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+			out.writeLong(0);
+			out.writeByte(1);
+			out.writeInt(0);
+		}
+
+		assertEquals("the API description must be restored from XML", xml, restoreApiDescription(component)); //$NON-NLS-1$
+		ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+		assertFalse("the XML API description must be removed", xmlFile.exists()); //$NON-NLS-1$
+		assertEquals("the migrated API description must be the same", xml, restoreApiDescription(component)); //$NON-NLS-1$
+	}
+
+	private ProjectComponent getTestingComponent(IJavaProject project) throws Exception {
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(new Path(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		assertTestSource(root, TESTING_PACKAGE, "TestClass1"); //$NON-NLS-1$
+		assertSourceResctriction(TESTING_PACKAGE, "TestClass1", RestrictionModifiers.NO_INSTANTIATE); //$NON-NLS-1$
+		IApiComponent component = getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertTrue("the testing component must be a project component", component instanceof ProjectComponent); //$NON-NLS-1$
+		return (ProjectComponent) component;
+	}
+
+	/**
+	 * Drops the API description of the given component from memory, restores
+	 * it from its saved file and returns it as XML
+	 */
+	private String restoreApiDescription(ProjectComponent component) throws CoreException {
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		manager.clean(component.getJavaProject(), false, true);
+		ProjectApiDescription restored = (ProjectApiDescription) manager.getApiDescription(component, component.getBundleDescription());
+		assertNotNull("the restored API description must exist", restored.resolveAnnotations(Factory.typeDescriptor(TESTING_PACKAGE + ".TestClass1"))); //$NON-NLS-1$
+		return restored.getXML();
+	}
+
 	/**
 	 * sets the given package name to be an Exported-Package
 	 *
@@ -13,17 +13,25 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.util.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.api.tools.tests.AbstractApiTest;
 import org.junit.After;
 import org.junit.Test;
@@ -203,4 +211,61 @@ public class HeadlessApiBaselineManagerTests extends AbstractApiTest {
 		// stop it again to free the memory from the map
 		fManager.stop();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests restoring a persisted baseline that lists the location of each of
+	 * its components
+	 */
+	@Test
+	public void testReadBaselineComponents() throws CoreException {
+		IPath plugins = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins"); //$NON-NLS-1$
+		String xml = "<apiprofile name=\"restored\" version=\"2\" location=\"" + plugins.toPortableString() + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<apicomponent id=\"component_c\" version=\"1.0.0\" location=\"" + plugins.append("component_c_1.0.0.jar").toPortableString() + "\"/>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "<apicomponent id=\"component.a\" version=\"1.0.0\" location=\"" + plugins.append("component.a_1.0.0.jar").toPortableString() + "\"/>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "<apicomponent id=\"component.b\" version=\"1.0.0\" location=\"" + plugins.append("component.b_1.0.0.jar").toPortableString() + "\"/>" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "</apiprofile>"; //$NON-NLS-1$
+		ApiBaseline baseline = assertRestoredComponents(xml, "component_c", "component.a", "component.b"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("the location of the baseline must be restored", plugins.toOSString(), baseline.getLocation()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests restoring a baseline persisted with version 1, where the components
+	 * are found by id and version in a pool directory
+	 */
+	@Test
+	public void testReadPooledBaselineComponents() throws CoreException {
+		IPath plugins = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins"); //$NON-NLS-1$
+		String xml = "<apiprofile name=\"restored\" version=\"1\">" //$NON-NLS-1$
+				+ "<pool location=\"" + plugins.toPortableString() + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "<apicomponent id=\"component.b\" version=\"1.0.0\"/>" //$NON-NLS-1$
+				+ "<apicomponent id=\"component_c\" version=\"1.0.0\"/>" //$NON-NLS-1$
+				+ "<apicomponent id=\"component.a\" version=\"1.0.0\"/>" //$NON-NLS-1$
+				+ "</pool></apiprofile>"; //$NON-NLS-1$
+		assertRestoredComponents(xml, "component.b", "component_c", "component.a"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Restores the components of the given persisted baseline and checks that
+	 * they are the given ones, in the persisted order
+	 *
+	 * @return the baseline the components were restored for
+	 */
+	private ApiBaseline assertRestoredComponents(String xml, String... ids) throws CoreException {
+		ApiBaseline baseline = new ApiBaseline("restored"); //$NON-NLS-1$
+		IApiComponent[] components = fManager.readBaselineComponents(baseline, new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+		assertNotNull("the components must be restored", components); //$NON-NLS-1$
+		try {
+			String[] restored = new String[components.length];
+			for (int i = 0; i < components.length; i++) {
+				restored[i] = components[i].getSymbolicName();
+			}
+			assertArrayEquals("the components must be restored in the persisted order", ids, restored); //$NON-NLS-1$
+		} finally {
+			for (IApiComponent component : components) {
+				component.dispose();
+			}
+			baseline.dispose();
+		}
+		return baseline;
+	}
+}
@@ -32,11 +32,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.FactoryConfigurationError;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.eclipse.core.resources.ISaveContext;
 import org.eclipse.core.resources.ISaveParticipant;
@@ -53,6 +56,7 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
@@ -68,9 +72,6 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.DependencyManager;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * This manager is used to maintain (persist, restore, access, update) API
@@ -101,6 +102,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	private static final String BASELINE_FILE_EXTENSION = ".profile"; //$NON-NLS-1$
 
+	/**
+	 * File extension of the snapshot of the bundle data of a persisted API
+	 * baseline
+	 */
+	private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot"; //$NON-NLS-1$
+
 	/**
 	 * The main cache for the manager. The form of the cache is:
 	 *
@@ -217,6 +224,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			try {
+				Files.deleteIfExists(savelocation.append(name + SNAPSHOT_FILE_EXTENSION).toFile().toPath());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -363,6 +375,41 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Writes the snapshots of the loaded baselines that recorded new bundle
+	 * data since they were read
+	 */
+	private void persistSnapshots() {
+		if (savelocation == null || baselinecache == null) {
+			return;
+		}
+		for (IApiBaseline baseline : baselinecache.values()) {
+			if (!isBaselineLoaded(baseline) || !(baseline instanceof ApiBaseline)) {
+				continue;
+			}
+			ApiBaselineSnapshot snapshot = ((ApiBaseline) baseline).getSnapshot();
+			if (snapshot == null || !snapshot.isDirty()) {
+				continue;
+			}
+			Set<String> locations = new HashSet<>();
+			for (IApiComponent component : baseline.getApiComponents()) {
+				Set<IApiComponent> versions = baseline.getAllApiComponents(component.getSymbolicName());
+				for (IApiComponent version : versions.isEmpty() ? Collections.singleton(component) : versions) {
+					if (!version.isSystemComponent()) {
+						locations.add(new File(version.getLocation()).getAbsolutePath());
+					}
+				}
+			}
+			File file = savelocation.append(baseline.getName() + SNAPSHOT_FILE_EXTENSION).toFile();
+			try {
+				Files.createDirectories(file.getParentFile().toPath());
+				snapshot.write(file, locations);
+			} catch (IOException e) {
+				ApiPlugin.log(new IOException("Unable to save the snapshot of API baseline with id: '" + baseline.getName() + "'", e)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
 	/**
 	 * Writes out the current state of the {@link IApiBaseline} as XML to the
 	 * given output stream
@@ -447,77 +494,122 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public IApiComponent[] readBaselineComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		long start = System.currentTimeMillis();
-		DocumentBuilder parser = null;
-		IApiComponent[] restored = null;
+		List<String> locations = new ArrayList<>();
 		try {
-			parser = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-			parser.setErrorHandler(new DefaultHandler());
-		} catch (ParserConfigurationException | FactoryConfigurationError e) {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+			XMLStreamReader reader = factory.createXMLStreamReader(stream);
+			try {
+				if (!readComponentLocations(baseline, reader, locations)) {
+					return null;
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException | FactoryConfigurationError e) {
 			abort("Error restoring API baseline", e); //$NON-NLS-1$
 		}
-		try {
-			Document document = parser.parse(stream);
-			Element root = document.getDocumentElement();
-			if (root.getNodeName().equals(IApiXmlConstants.ELEMENT_APIPROFILE)) {
-				String baselineLocation = root.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-				if (baselineLocation != null && !baselineLocation.equals(Util.EMPTY_STRING)) {
-					baseline.setLocation(Path.fromPortableString(baselineLocation).toOSString());
-				}
-				// un-pooled components
-				NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-				List<IApiComponent> components = new ArrayList<>();
-				for (int j = 0; j < children.getLength(); j++) {
-					Element componentNode = (Element) children.item(j);
-					// this also contains components in pools, so don't process
-					// them
-					if (componentNode.getParentNode().equals(root)) {
-						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, Path.fromPortableString(location).toOSString());
-						if (component != null) {
-							components.add(component);
-						}
+		long parsed = System.currentTimeMillis();
+		if (savelocation != null && baseline.getSnapshot() == null) {
+			baseline.setSnapshot(ApiBaselineSnapshot.read(savelocation.append(baseline.getName() + SNAPSHOT_FILE_EXTENSION).toFile()));
+		}
+
+		// the components open their bundle to read the manifest, create them
+		// concurrently and let the baseline add them at once
+		IApiComponent[] created = new IApiComponent[locations.size()];
+		CoreException[] errors = new CoreException[locations.size()];
+		IntStream.range(0, created.length).parallel().forEach(i -> {
+			try {
+				created[i] = ApiModelFactory.newApiComponent(baseline, locations.get(i));
+			} catch (CoreException e) {
+				errors[i] = e;
+			}
+		});
+		List<IApiComponent> components = new ArrayList<>(created.length);
+		for (int i = 0; i < created.length; i++) {
+			if (errors[i] != null) {
+				for (IApiComponent component : created) {
+					if (component != null) {
+						component.dispose();
 					}
 				}
-				// pooled components - only for xml file with version <= 1
-				// since version 2, pools have been removed
-				children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_POOL);
-				IApiComponent component = null;
-				for (int j = 0; j < children.getLength(); j++) {
-					String location = ((Element) children.item(j)).getAttribute(IApiXmlConstants.ATTR_LOCATION);
-					IPath poolPath = Path.fromPortableString(location);
-					NodeList componentNodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					for (int i = 0; i < componentNodes.getLength(); i++) {
-						Element compElement = (Element) componentNodes.item(i);
-						String id = compElement.getAttribute(IApiXmlConstants.ATTR_ID);
-						String ver = compElement.getAttribute(IApiXmlConstants.ATTR_VERSION);
-						StringBuilder name = new StringBuilder();
-						name.append(id);
-						name.append('_');
-						name.append(ver);
-						File file = poolPath.append(name.toString()).toFile();
-						if (!file.exists()) {
-							name.append(".jar"); //$NON-NLS-1$
-							file = poolPath.append(name.toString()).toFile();
-						}
-						component = ApiModelFactory.newApiComponent(baseline, file.getAbsolutePath());
-						if (component != null) {
-							components.add(component);
-						}
+				throw errors[i];
+			}
+			if (created[i] != null) {
+				components.add(created[i]);
+			}
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			long end = System.currentTimeMillis();
+			System.out.println("Time to restore a persisted baseline : " + (end - start) + "ms, reading " + (parsed - start) //$NON-NLS-1$ //$NON-NLS-2$
+					+ "ms, creating " + components.size() + " of " + locations.size() + " components " + (end - parsed) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		return components.toArray(new IApiComponent[components.size()]);
+	}
+
+	/**
+	 * Reads the locations of the components of a persisted baseline and sets
+	 * the location of the baseline.
+	 *
+	 * @param baseline the baseline being restored
+	 * @param reader reader positioned at the start of the persisted baseline
+	 * @param locations list to add the absolute component locations to
+	 * @return <code>false</code> if the stream does not describe a baseline
+	 * @throws XMLStreamException if the stream cannot be read
+	 */
+	private boolean readComponentLocations(ApiBaseline baseline, XMLStreamReader reader, List<String> locations) throws XMLStreamException {
+		reader.nextTag();
+		if (!IApiXmlConstants.ELEMENT_APIPROFILE.equals(reader.getLocalName())) {
+			return false;
+		}
+		String baselineLocation = reader.getAttributeValue(null, IApiXmlConstants.ATTR_LOCATION);
+		if (baselineLocation != null && !baselineLocation.equals(Util.EMPTY_STRING)) {
+			baseline.setLocation(Path.fromPortableString(baselineLocation).toOSString());
+		}
+		// all components, the ones in pools included, as id and version
+		List<String> componentNames = new ArrayList<>();
+		List<IPath> pools = new ArrayList<>();
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+				String element = reader.getLocalName();
+				if (IApiXmlConstants.ELEMENT_APICOMPONENT.equals(element)) {
+					if (depth == 2) {
+						// un-pooled components
+						String location = reader.getAttributeValue(null, IApiXmlConstants.ATTR_LOCATION);
+						locations.add(Path.fromPortableString(location == null ? Util.EMPTY_STRING : location).toOSString());
 					}
+					String id = reader.getAttributeValue(null, IApiXmlConstants.ATTR_ID);
+					String ver = reader.getAttributeValue(null, IApiXmlConstants.ATTR_VERSION);
+					componentNames.add((id == null ? Util.EMPTY_STRING : id) + '_' + (ver == null ? Util.EMPTY_STRING : ver));
+				} else if (IApiXmlConstants.ELEMENT_POOL.equals(element)) {
+					String location = reader.getAttributeValue(null, IApiXmlConstants.ATTR_LOCATION);
+					pools.add(Path.fromPortableString(location == null ? Util.EMPTY_STRING : location));
 				}
-				restored = components.toArray(new IApiComponent[components.size()]);
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
 			}
-		} catch (IOException | SAXException e) {
-			abort("Error restoring API baseline", e); //$NON-NLS-1$
 		}
-		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
-			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		// pooled components - only for xml file with version <= 1
+		// since version 2, pools have been removed
+		for (IPath poolPath : pools) {
+			for (String name : componentNames) {
+				File file = poolPath.append(name).toFile();
+				if (!file.exists()) {
+					file = poolPath.append(name + ".jar").toFile(); //$NON-NLS-1$
+				}
+				locations.add(file.getAbsolutePath());
+			}
 		}
-		return restored;
+		return true;
 	}
 
 	@Override
 	public void saving(ISaveContext context) throws CoreException {
+		persistSnapshots();
 		if (!fNeedsSaving) {
 			return;
 		}
@@ -80,6 +80,13 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 */
 	public static final IPath API_DESCRIPTIONS_CONTAINER_PATH = ApiPlugin.getDefault().getStateLocation();
 
+	/**
+	 * Name of the file an API description is saved to in the binary form of
+	 * {@link ProjectApiDescriptionFormat}. Descriptions saved as XML by
+	 * previous versions are still restored and migrated on the next save.
+	 */
+	private static final String API_DESCRIPTION_BINARY_NAME = ".api_description.bin"; //$NON-NLS-1$
+
 	/**
 	 * Constructs an API description manager.
 	 */
@@ -159,6 +166,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(API_DESCRIPTION_BINARY_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -244,10 +255,14 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (desc.isModified()) {
 				File dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 				dir.mkdirs();
-				String xml = desc.getXML();
 				try {
-					Util.saveFile(new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME), xml);
+					ProjectApiDescriptionFormat.write(desc, new File(dir, API_DESCRIPTION_BINARY_NAME));
 					desc.setModified(false);
+					// the XML form of previous versions is replaced
+					File xml = new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+					if (xml.exists()) {
+						xml.delete();
+					}
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
 				}
@@ -265,6 +280,20 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 * @throws CoreException
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
+		File binary = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(API_DESCRIPTION_BINARY_NAME).toFile();
+		if (binary.exists()) {
+			try {
+				if (ProjectApiDescriptionFormat.read(project, description, binary)) {
+					return true;
+				}
+			} catch (IOException | CoreException e) {
+				if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+					System.out.println("Failed to read API description of " + project.getElementName() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+			// drop whatever was read before the failure
+			description.clean();
+		}
 		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			BufferedInputStream stream = null;
@@ -282,6 +311,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 					description.fPackageTimeStamp = timestamp;
 					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
 					restoreChildren(description, root, null, description.fPackageMap);
+					// saved in the binary form on the next save
+					description.setModified(true);
 					return true;
 				}
 			} catch (IOException e) {
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -75,9 +76,10 @@ import org.w3c.dom.Element;
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
 	/**
-	 * Map used to collect unused {@link IApiProblemFilter}s
+	 * Map used to collect unused {@link IApiProblemFilter}s, filters are
+	 * removed from it concurrently while problems are filtered
 	 */
-	private HashMap<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private volatile Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
 
 	/**
 	 * The backing {@link IJavaProject}
@@ -88,6 +90,64 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	boolean fTriggeredChange = false;
 	HashMap<IResource, Map<String, Set<IApiProblemFilter>>> fFilterMap;
 
+	/**
+	 * Index of the filters of {@link #fFilterMap} used to filter problems, or
+	 * <code>null</code> if it needs to be built again because the filters
+	 * changed
+	 */
+	private volatile FilterIndex fFilterIndex;
+
+	/**
+	 * Immutable index of filters by the resource path, id and type name of
+	 * their problem
+	 */
+	private static class FilterIndex {
+		private final Map<IPath, IResource> fResources = new HashMap<>();
+		private final Map<IPath, Map<String, IApiProblemFilter[]>> fFilters = new HashMap<>();
+
+		FilterIndex(Map<IResource, Map<String, Set<IApiProblemFilter>>> filterMap) {
+			for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : filterMap.entrySet()) {
+				IResource resource = entry.getKey();
+				IPath path = resource.getProjectRelativePath();
+				fResources.put(path, resource);
+				Map<String, List<IApiProblemFilter>> buckets = new HashMap<>();
+				for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+					for (IApiProblemFilter filter : filters) {
+						IApiProblem problem = filter.getUnderlyingProblem();
+						buckets.computeIfAbsent(getKey(problem.getId(), problem.getTypeName()), k -> new ArrayList<>(1)).add(filter);
+					}
+				}
+				Map<String, IApiProblemFilter[]> index = new HashMap<>(buckets.size());
+				for (Entry<String, List<IApiProblemFilter>> bucket : buckets.entrySet()) {
+					index.put(bucket.getKey(), bucket.getValue().toArray(new IApiProblemFilter[bucket.getValue().size()]));
+				}
+				fFilters.put(path, index);
+			}
+		}
+
+		private static String getKey(int id, String typeName) {
+			return id + ":" + (typeName == null ? GLOBAL : typeName); //$NON-NLS-1$
+		}
+
+		/**
+		 * @return the resource with filters at the given path or
+		 *         <code>null</code>
+		 */
+		IResource getResource(IPath path) {
+			return fResources.get(path);
+		}
+
+		/**
+		 * @return the filters of the resource at the given path that can match
+		 *         a problem with the given id and type name
+		 */
+		IApiProblemFilter[] getFilters(IPath path, int id, String typeName) {
+			Map<String, IApiProblemFilter[]> index = fFilters.get(path);
+			IApiProblemFilter[] filters = index != null ? index.get(getKey(id, typeName)) : null;
+			return filters != null ? filters : FilterStore.NO_FILTERS;
+		}
+	}
+
 	/**
 	 * Constructor
 	 *
@@ -227,6 +287,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 	}
 
@@ -264,27 +325,27 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
 		}
-		IResource resource = fProject.getProject().findMember(new Path(resourcePath));
+		FilterIndex index = getFilterIndex();
+		IPath path = new Path(resourcePath);
+		IResource resource = index.getResource(path);
 		if (resource == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
+		if (!resource.exists()) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return false;
 		}
-		for (IApiProblemFilter filter : filters) {
+		for (IApiProblemFilter filter : index.getFilters(path, problem.getId(), problem.getTypeName())) {
 			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -299,6 +360,27 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return false;
 	}
 
+	/**
+	 * Returns the index of the current filters, building it if the filters
+	 * changed since it was last built.
+	 *
+	 * @return the filter index
+	 */
+	private FilterIndex getFilterIndex() {
+		FilterIndex index = fFilterIndex;
+		if (index == null) {
+			synchronized (this) {
+				initializeApiFilters();
+				index = fFilterIndex;
+				if (index == null) {
+					index = new FilterIndex(fFilterMap);
+					fFilterIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	@Override
 	public void dispose() {
 		// if the store is about to be disposed and has pending changes save
@@ -306,10 +388,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=299319
 		persistApiFilters();
 		clearFilters();
-		if (fUnusedFilters != null) {
-			fUnusedFilters.clear();
-			fUnusedFilters = null;
-		}
+		fUnusedFilters = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
 	}
 
@@ -370,6 +449,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -506,6 +586,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		fFilterMap = new LinkedHashMap<>(5);
+		fFilterIndex = null;
 		IPath filepath = getFilterFilePath(true);
 		IResource file = ResourcesPlugin.getWorkspace().getRoot().findMember(filepath, true);
 		if (file == null) {
@@ -571,6 +652,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fFilterIndex = null;
 	}
 
 	/**
@@ -614,18 +696,21 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 */
 	public synchronized void recordFilterUsage() {
 		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = new ConcurrentHashMap<>();
 		Map<String, Set<IApiProblemFilter>> types = null;
 		Set<IApiProblemFilter> values = null;
 		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
 			IResource resource = filterEntry.getKey();
 			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
+			values = ConcurrentHashMap.newKeySet();
 			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
 				values.addAll(entry.getValue());
 			}
+			if (!values.isEmpty()) {
+				unusedFilters.put(resource, values);
+			}
 		}
+		fUnusedFilters = unusedFilters;
 	}
 
 	/**
@@ -635,13 +720,11 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 * @param filter
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
-			if (unused != null) {
-				unused.remove(filter);
-				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
-				}
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
+			Set<IApiProblemFilter> unused = unusedFilters.get(resource);
+			if (unused != null && unused.remove(filter) && unused.isEmpty()) {
+				unusedFilters.remove(resource, unused);
 			}
 		}
 	}
@@ -659,12 +742,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
 			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
+				set = unusedFilters.get(resource);
 				if (set != null) {
 					collectFilterFor(set, typeName, unused, categories);
 				}
@@ -674,17 +758,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
+						set = unusedFilters.get(res);
 						collectFilterFor(set, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+				for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 					set = entry.getValue();
 					if (set != null) {
 						unused.addAll(set);
@@ -779,6 +863,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				}
 				if (fFilterMap != null) {
 					fFilterMap.clear();
+					fFilterIndex = null;
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -815,5 +900,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fFilterIndex = null;
 	}
 }
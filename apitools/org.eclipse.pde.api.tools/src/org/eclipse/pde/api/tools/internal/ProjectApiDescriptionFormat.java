@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.PackageNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+
+/**
+ * Binary encoding of the state of a {@link ProjectApiDescription}, used
+ * instead of the XML form to persist the descriptions of workspace projects
+ * between sessions.
+ * <p>
+ * The file contains the same nodes as the XML form, in a depth first order
+ * with a tag per node and an end tag per list of children. Strings are
+ * written once and referenced by index afterwards, so the handles, names and
+ * signatures repeated between nodes are only stored and decoded once.
+ * </p>
+ */
+final class ProjectApiDescriptionFormat {
+
+	private static final int MAGIC = 0x41504944; // "APID"
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte END = 0;
+	private static final byte PACKAGE = 1;
+	private static final byte TYPE = 2;
+	private static final byte FIELD = 3;
+	private static final byte METHOD = 4;
+
+	private ProjectApiDescriptionFormat() {
+	}
+
+	/**
+	 * Writes the given description to the given file.
+	 *
+	 * @param description the description to persist
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(ProjectApiDescription description, File file) throws IOException {
+		synchronized (description) {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+				out.writeLong(description.fPackageTimeStamp);
+				new Writer(out).writeChildren(description.fPackageMap);
+			}
+		}
+	}
+
+	/**
+	 * Restores the given description from the given file.
+	 *
+	 * @param project the project of the description
+	 * @param description the description to restore
+	 * @param file the file to read
+	 * @return whether the file contained a description of the current version
+	 * @throws IOException if the file cannot be read
+	 * @throws CoreException if the file contains invalid nodes
+	 */
+	static boolean read(IJavaProject project, ProjectApiDescription description, File file) throws IOException, CoreException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				return false;
+			}
+			String version = in.readUTF();
+			description.setEmbeddedVersion(version);
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				return false;
+			}
+			description.fPackageTimeStamp = in.readLong();
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			new Reader(in, description).readChildren(null, description.fPackageMap);
+			return true;
+		}
+	}
+
+	/**
+	 * Writes the nodes persisted by the XML form
+	 */
+	private static class Writer {
+		private final DataOutputStream fOut;
+		private final Map<String, Integer> fStrings = new HashMap<>();
+
+		Writer(DataOutputStream out) {
+			fOut = out;
+		}
+
+		void writeChildren(Map<IElementDescriptor, ManifestNode> children) throws IOException {
+			for (ManifestNode node : children.values()) {
+				writeNode(node);
+			}
+			fOut.writeByte(END);
+		}
+
+		private void writeNode(ManifestNode node) throws IOException {
+			if (node instanceof PackageNode) {
+				PackageNode packageNode = (PackageNode) node;
+				if (node.hasApiVisibility(node)) {
+					fOut.writeByte(PACKAGE);
+					fOut.writeInt(packageNode.fFragments.length);
+					for (IPackageFragment fragment : packageNode.fFragments) {
+						writeString(fragment.getHandleIdentifier());
+					}
+					fOut.writeInt(node.visibility);
+					writeChildren(node.children);
+				}
+			} else if (node instanceof TypeNode) {
+				TypeNode typeNode = (TypeNode) node;
+				if (node.hasApiVisibility(node)) {
+					fOut.writeByte(TYPE);
+					writeString(typeNode.fType.getHandleIdentifier());
+					fOut.writeInt(node.visibility);
+					fOut.writeInt(node.restrictions);
+					fOut.writeLong(typeNode.fTimeStamp);
+					writeChildren(node.children);
+				}
+			} else if (!RestrictionModifiers.isUnrestricted(node.restrictions)) {
+				switch (node.element.getElementType()) {
+					case IElementDescriptor.METHOD: {
+						IMethodDescriptor md = (IMethodDescriptor) node.element;
+						fOut.writeByte(METHOD);
+						writeString(md.getName());
+						writeString(md.getSignature());
+						fOut.writeInt(node.visibility);
+						fOut.writeInt(node.restrictions);
+						break;
+					}
+					case IElementDescriptor.FIELD: {
+						IFieldDescriptor fd = (IFieldDescriptor) node.element;
+						fOut.writeByte(FIELD);
+						writeString(fd.getName());
+						fOut.writeInt(node.visibility);
+						fOut.writeInt(node.restrictions);
+						break;
+					}
+					default:
+						break;
+				}
+			}
+		}
+
+		private void writeString(String value) throws IOException {
+			Integer index = fStrings.get(value);
+			if (index != null) {
+				fOut.writeInt(index.intValue());
+				return;
+			}
+			fStrings.put(value, Integer.valueOf(fStrings.size()));
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			fOut.writeInt(-1);
+			fOut.writeInt(bytes.length);
+			fOut.write(bytes);
+		}
+	}
+
+	/**
+	 * Creates the nodes written by {@link Writer}
+	 */
+	private static class Reader {
+		private final DataInputStream fIn;
+		private final ProjectApiDescription fDescription;
+		private final List<String> fStrings = new ArrayList<>();
+
+		Reader(DataInputStream in, ProjectApiDescription description) {
+			fIn = in;
+			fDescription = description;
+		}
+
+		void readChildren(ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws IOException, CoreException {
+			byte tag;
+			while ((tag = fIn.readByte()) != END) {
+				readNode(tag, parentNode, childrenMap);
+			}
+		}
+
+		private void readNode(byte tag, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws IOException, CoreException {
+			ManifestNode node = null;
+			IElementDescriptor elementDesc = null;
+			switch (tag) {
+				case PACKAGE: {
+					int count = fIn.readInt();
+					if (count <= 0) {
+						abort(ScannerMessages.ApiDescriptionManager_2);
+					}
+					IPackageFragment[] fragments = new IPackageFragment[count];
+					for (int i = 0; i < count; i++) {
+						String handle = readString();
+						IJavaElement je = JavaCore.create(handle);
+						if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+							abort(ScannerMessages.ApiDescriptionManager_2 + handle);
+						}
+						fragments[i] = (IPackageFragment) je;
+					}
+					int vis = fIn.readInt();
+					elementDesc = Factory.packageDescriptor(fragments[count - 1].getElementName());
+					// restrictions are not persisted for packages
+					node = fDescription.newPackageNode(fragments, parentNode, elementDesc, vis, 0);
+					break;
+				}
+				case TYPE: {
+					String handle = readString();
+					int vis = fIn.readInt();
+					int res = fIn.readInt();
+					long timeStamp = fIn.readLong();
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle);
+					}
+					IType type = (IType) je;
+					elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+					TypeNode tn = fDescription.newTypeNode(type, parentNode, elementDesc, vis, res);
+					tn.fTimeStamp = timeStamp;
+					node = tn;
+					break;
+				}
+				case FIELD: {
+					String name = readString();
+					int vis = fIn.readInt();
+					int res = fIn.readInt();
+					if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor) {
+						elementDesc = ((IReferenceTypeDescriptor) parentNode.element).getField(name);
+						node = fDescription.newNode(parentNode, elementDesc, vis, res);
+					}
+					break;
+				}
+				case METHOD: {
+					String name = readString();
+					String sig = readString();
+					int vis = fIn.readInt();
+					int res = fIn.readInt();
+					if (parentNode != null && parentNode.element instanceof IReferenceTypeDescriptor) {
+						elementDesc = ((IReferenceTypeDescriptor) parentNode.element).getMethod(name, sig);
+						node = fDescription.newNode(parentNode, elementDesc, vis, res);
+					}
+					break;
+				}
+				default:
+					break;
+			}
+			if (node == null) {
+				abort(ScannerMessages.ApiDescriptionManager_4);
+			}
+			childrenMap.put(elementDesc, node);
+			if (tag == PACKAGE || tag == TYPE) {
+				readChildren(node, node.children);
+			}
+		}
+
+		private String readString() throws IOException {
+			int index = fIn.readInt();
+			if (index >= 0) {
+				if (index >= fStrings.size()) {
+					throw new IOException("Invalid string reference: " + index); //$NON-NLS-1$
+				}
+				return fStrings.get(index);
+			}
+			byte[] bytes = new byte[fIn.readInt()];
+			fIn.readFully(bytes);
+			String value = new String(bytes, StandardCharsets.UTF_8);
+			fStrings.add(value);
+			return value;
+		}
+
+		private static void abort(String message) throws CoreException {
+			throw new CoreException(Status.error(message));
+		}
+	}
+}
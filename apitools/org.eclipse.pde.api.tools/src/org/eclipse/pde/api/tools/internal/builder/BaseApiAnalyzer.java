@@ -31,6 +31,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
@@ -47,6 +53,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -130,6 +137,47 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	static final String[] NO_TYPES = new String[0];
 
+	/*
+	 * The structurally changed types of a component are compared against the
+	 * reference component concurrently. To compare them one after the other,
+	 * specify VM property:
+	 * {@code -Dorg.eclipse.pde.api.tools.serialCompatibilityCheck=true}
+	 */
+	private static final boolean SERIAL_COMPATIBILITY_CHECK = Boolean.getBoolean("org.eclipse.pde.api.tools.serialCompatibilityCheck"); //$NON-NLS-1$
+
+	/**
+	 * Thread comparing a changed type with the reference component
+	 */
+	private static final class ComparisonThread extends Thread {
+		ComparisonThread(Runnable runnable) {
+			super(runnable, "API Tools Compatibility Check"); //$NON-NLS-1$
+			setDaemon(true);
+		}
+	}
+
+	/**
+	 * Compares the changed types for all analyzers, so that analyses running
+	 * at the same time share one thread per processor
+	 */
+	private static ExecutorService fgComparisonExecutor;
+
+	/**
+	 * Result of the comparison of a type with the reference component, see
+	 * {@link BaseApiAnalyzer#compareType(String, IApiComponent, IApiComponent, IProgressMonitor)}
+	 */
+	private static class TypeComparison {
+		final String typeName;
+		/**
+		 * Whether the type was found and compared, as opposed to a removed type
+		 */
+		boolean compared;
+		IDelta delta;
+
+		TypeComparison(String typeName) {
+			this.typeName = typeName;
+		}
+	}
+
 	private static class ReexportedBundleVersionInfo {
 		String componentID;
 		int kind;
@@ -627,15 +675,80 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * @throws CoreException
 	 */
 	private void checkCompatibility(String[] changedtypes, IApiComponent reference, IApiComponent component, SubMonitor localMonitor) throws CoreException {
-		localMonitor.setWorkRemaining(changedtypes.length);
+		List<String> typeNames = new ArrayList<>(changedtypes.length);
 		for (String changedtype : changedtypes) {
-			if (changedtype == null) {
-				continue;
+			if (changedtype != null) {
+				typeNames.add(changedtype);
+			}
+		}
+		localMonitor.setWorkRemaining(typeNames.size());
+		// a comparison thread waiting for other comparisons could starve the pool
+		if (SERIAL_COMPATIBILITY_CHECK || typeNames.size() <= 1 || Thread.currentThread() instanceof ComparisonThread) {
+			for (String typeName : typeNames) {
+				checkCompatibility(typeName, reference, component, localMonitor.split(1));
+			}
+			return;
+		}
+		// the comparisons only read the components, the deltas are processed
+		// in the order of the changed types on this thread
+		IProgressMonitor cancelMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return localMonitor.isCanceled();
+			}
+		};
+		ExecutorService executor = getComparisonExecutor();
+		List<Future<TypeComparison>> comparisons = new ArrayList<>(typeNames.size());
+		try {
+			for (String typeName : typeNames) {
+				comparisons.add(executor.submit(() -> {
+					if (cancelMonitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					return compareType(typeName, reference, component, cancelMonitor);
+				}));
+			}
+			for (Future<TypeComparison> comparison : comparisons) {
+				SubMonitor subMonitor = localMonitor.split(1);
+				TypeComparison result;
+				try {
+					result = comparison.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException) {
+						throw (CoreException) cause;
+					}
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new CoreException(Status.error(cause.getMessage(), cause));
+				}
+				processTypeComparison(result, reference, component, subMonitor);
+			}
+		} finally {
+			// stops the comparisons left after a failure or cancellation
+			for (Future<TypeComparison> comparison : comparisons) {
+				comparison.cancel(true);
 			}
-			checkCompatibility(changedtype, reference, component, localMonitor.split(1));
 		}
 	}
 
+	private static synchronized ExecutorService getComparisonExecutor() {
+		if (fgComparisonExecutor == null) {
+			int threads = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ComparisonThread::new);
+			executor.allowCoreThreadTimeOut(true);
+			fgComparisonExecutor = executor;
+		}
+		return fgComparisonExecutor;
+	}
+
 	/**
 	 * Checks for unused API problem filters
 	 *
@@ -1353,6 +1466,24 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * @param monitor
 	 */
 	private void checkCompatibility(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 2);
+		TypeComparison comparison = compareType(typeName, reference, component, subMonitor.split(1));
+		processTypeComparison(comparison, reference, component, subMonitor.split(1));
+	}
+
+	/**
+	 * Computes the delta of the given type between the two API components.
+	 * Only reads the components, so types can be compared concurrently.
+	 *
+	 * @param typeName the type to check in each component
+	 * @param reference
+	 * @param component
+	 * @param monitor
+	 * @return the comparison of the type, its delta is <code>null</code> if
+	 *         there is nothing to report
+	 */
+	private TypeComparison compareType(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
+		TypeComparison comparison = new TypeComparison(typeName);
 		String id = component.getSymbolicName();
 		if (ApiPlugin.DEBUG_API_ANALYZER) {
 			System.out.println("comparing components [" + reference.getSymbolicName() + "] and [" + id + "] for type [" + typeName + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
@@ -1367,7 +1498,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
-		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 4);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
 		IDelta delta = null;
 		IApiComponent provider = null;
 		boolean reexported = false;
@@ -1416,7 +1547,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				try {
 					IApiType type = referenceClassFile.getStructure();
 					if (type == null) {
-						return;
+						return comparison;
 					}
 					final IApiDescription referenceApiDescription = reference.getApiDescription();
 					IApiAnnotations elementDescription = referenceApiDescription.resolveAnnotations(type.getHandle());
@@ -1432,7 +1563,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 						// if the visibility is API, we only consider public
 						// and protected types
 						if (Util.isDefault(type.getModifiers()) || Flags.isPrivate(type.getModifiers())) {
-							return;
+							return comparison;
 						}
 						if (VisibilityModifiers.isAPI(visibility)) {
 							String deltaComponentID = Util.getDeltaComponentVersionsId(reference);
@@ -1447,7 +1578,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			}
 			subMonitor.split(1);
 		} else {
-			fBuildState.cleanup(typeName);
+			comparison.compared = true;
 			long time = System.currentTimeMillis();
 			try {
 				IApiComponent exporter = null;
@@ -1467,9 +1598,27 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				if (ApiPlugin.DEBUG_API_ANALYZER) {
 					System.out.println("Time spent for " + typeName + " : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 				}
-				fPendingDeltaInfos.clear();
 			}
 		}
+		comparison.delta = delta;
+		return comparison;
+	}
+
+	/**
+	 * Reports the problems of the given type comparison
+	 *
+	 * @param comparison the comparison of a type
+	 * @param reference
+	 * @param component
+	 * @param monitor
+	 */
+	private void processTypeComparison(TypeComparison comparison, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		if (comparison.compared) {
+			fBuildState.cleanup(comparison.typeName);
+			fPendingDeltaInfos.clear();
+		}
+		IDelta delta = comparison.delta;
 		if (delta == null) {
 			return;
 		}
@@ -36,6 +36,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -58,7 +59,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.osgi.service.resolver.State;
-import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.pde.api.tools.internal.AnyValue;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
@@ -134,6 +134,44 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private final Map<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
 
+	/**
+	 * Packages visible to the bundles of the current state, see
+	 * {@link #getVisiblePackages(BundleDescription)}
+	 */
+	private volatile VisiblePackages fVisiblePackages;
+
+	/**
+	 * Statistics of the package caches, reported with
+	 * {@link ApiPlugin#DEBUG_BASELINE_MANAGER}
+	 */
+	private final AtomicLong fPackageCacheHits = new AtomicLong();
+	private final AtomicLong fPackageCacheMisses = new AtomicLong();
+	private final AtomicLong fVisiblePackagesComputed = new AtomicLong();
+
+	/**
+	 * Index of the packages visible to the bundles of one state.
+	 * <p>
+	 * For each bundle the visible packages are mapped by name to their
+	 * exporters. The entry of a bundle is computed on first request with a
+	 * single query of the state helper. The index is only valid for the state
+	 * and time stamp it was created for.
+	 * </p>
+	 */
+	private static class VisiblePackages {
+		final State state;
+		final long timeStamp;
+		final Map<BundleDescription, Map<String, List<BundleDescription>>> byBundle = new ConcurrentHashMap<>();
+
+		VisiblePackages(State state) {
+			this.state = state;
+			this.timeStamp = state.getTimeStamp();
+		}
+
+		boolean isValid(State current) {
+			return state == current && timeStamp == current.getTimeStamp();
+		}
+	}
+
 	/**
 	 * Maps component id's to components.
 	 * <p>
@@ -156,9 +194,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private volatile Map<String, IApiComponent> fComponentsByProjectNames;
 	/**
-	 * Cache of system package names
+	 * Cache of system package names, built once and then only read, so that
+	 * concurrent analyses can share it
 	 */
-	private HashSet<String> fSystemPackageNames = null;
+	private volatile Set<String> fSystemPackageNames = null;
 
 	/**
 	 * The VM install this baseline is bound to for system libraries or
@@ -170,6 +209,12 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	private volatile boolean restored;
 
+	/**
+	 * Snapshot of the bundle data of the components of this baseline or
+	 * <code>null</code> if the baseline is not persisted
+	 */
+	private volatile ApiBaselineSnapshot fSnapshot;
+
 	/**
 	 * Constructs a new API baseline with the given name.
 	 *
@@ -333,10 +378,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 			}
 		}
-		if (fSystemPackageNames != null) {
-			fSystemPackageNames.clear();
-			fSystemPackageNames = null;
-		}
+		fSystemPackageNames = null;
 		clearComponentsCache();
 		// set new system library
 		SystemLibraryApiComponent fSystemLibraryComponent = new SystemLibraryApiComponent(this, description, systemPackages);
@@ -351,6 +393,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		fVisiblePackages = null;
 	}
 
 	/**
@@ -553,8 +596,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 				.computeIfAbsent(packageName, x -> new ConcurrentHashMap<>(8));
 		IApiComponent[] cachedComponents = componentsForPackage.get(sourceComponent);
 		if (cachedComponents != null && cachedComponents.length > 0) {
+			fPackageCacheHits.incrementAndGet();
 			return cachedComponents;
 		}
+		fPackageCacheMisses.incrementAndGet();
 
 		// check resolvePackage0 before the system packages to avoid wrong
 		// add/remove API problems - see bug 430640
@@ -603,19 +648,12 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (component instanceof BundleComponent) {
 			BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
 			if (bundle != null) {
-				StateHelper helper = getState().getStateHelper();
-				ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
-				for (ExportPackageDescription pkg : visiblePackages) {
-					String pkgName = pkg.getName();
-					if (pkgName.equals(".")) { //$NON-NLS-1$
-						// translate . to default package
-						pkgName = Util.DEFAULT_PACKAGE_NAME;
-					}
-					if (packageName.equals(pkgName)) {
-						BundleDescription bundleDescription = pkg.getExporter();
-						IApiComponent exporter = getApiComponent(bundleDescription.getSymbolicName());
-						if (exporter != null) {
-							componentsList.add(exporter);
+				List<BundleDescription> exporters = getVisiblePackages(bundle).get(packageName);
+				if (exporters != null) {
+					for (BundleDescription exporter : exporters) {
+						IApiComponent exporterComponent = getApiComponent(exporter.getSymbolicName());
+						if (exporterComponent != null) {
+							componentsList.add(exporterComponent);
 						}
 					}
 				}
@@ -640,6 +678,48 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 	}
 
+	/**
+	 * Returns the packages visible to the given bundle in the current state,
+	 * mapped by name to the bundles exporting them. The default package is
+	 * mapped by {@link Util#DEFAULT_PACKAGE_NAME}.
+	 *
+	 * @param bundle a bundle of the state
+	 * @return the visible packages of the bundle
+	 */
+	private Map<String, List<BundleDescription>> getVisiblePackages(BundleDescription bundle) {
+		State state = getState();
+		VisiblePackages visiblePackages = fVisiblePackages;
+		if (visiblePackages == null || !visiblePackages.isValid(state)) {
+			if (visiblePackages != null && ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Visible packages of baseline " + getName() + " changed, " + getPackageCacheStatistics()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			visiblePackages = new VisiblePackages(state);
+			fVisiblePackages = visiblePackages;
+		}
+		return visiblePackages.byBundle.computeIfAbsent(bundle, b -> {
+			fVisiblePackagesComputed.incrementAndGet();
+			ExportPackageDescription[] packages = state.getStateHelper().getVisiblePackages(b);
+			Map<String, List<BundleDescription>> exporters = new HashMap<>(packages.length);
+			for (ExportPackageDescription pkg : packages) {
+				String pkgName = pkg.getName();
+				if (pkgName.equals(".")) { //$NON-NLS-1$
+					// translate . to default package
+					pkgName = Util.DEFAULT_PACKAGE_NAME;
+				}
+				exporters.computeIfAbsent(pkgName, n -> new ArrayList<>(1)).add(pkg.getExporter());
+			}
+			return exporters;
+		});
+	}
+
+	/**
+	 * @return a description of the use of the package caches of this baseline
+	 */
+	private String getPackageCacheStatistics() {
+		return "resolved packages: " + fPackageCacheHits.get() + " hits, " + fPackageCacheMisses.get() //$NON-NLS-1$ //$NON-NLS-2$
+				+ " misses, visible packages computed for " + fVisiblePackagesComputed.get() + " bundles"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	/**
 	 * Returns all of the visible dependent components from the current state
 	 *
@@ -673,14 +753,16 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (packageName.startsWith("java.")) { //$NON-NLS-1$
 			return true;
 		}
-		if (fSystemPackageNames == null) {
+		Set<String> names = fSystemPackageNames;
+		if (names == null) {
 			ExportPackageDescription[] systemPackages = getState().getSystemPackages();
-			fSystemPackageNames = new HashSet<>(systemPackages.length);
+			names = new HashSet<>(systemPackages.length);
 			for (ExportPackageDescription systemPackage : systemPackages) {
-				fSystemPackageNames.add(systemPackage.getName());
+				names.add(systemPackage.getName());
 			}
+			fSystemPackageNames = names;
 		}
-		return fSystemPackageNames.contains(packageName);
+		return names.contains(packageName);
 	}
 
 	/**
@@ -853,6 +935,9 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			disposed = true;
 		}
 		clearCachedElements();
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Disposing baseline " + getName() + ", " + getPackageCacheStatistics()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 		if (ApiPlugin.isRunningInFramework()) {
 			JavaRuntime.removeVMInstallChangedListener(this);
 		}
@@ -872,9 +957,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			fComponentsByProjectNames.clear();
 			fComponentsByProjectNames = null;
 		}
-		if (fSystemPackageNames != null) {
-			fSystemPackageNames.clear();
-		}
+		fSystemPackageNames = null;
 		if (!fSystemLibraryComponentList.isEmpty()) {
 			for (IApiComponent iApiComponent : fSystemLibraryComponentList) {
 				iApiComponent.dispose();
@@ -1032,6 +1115,24 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		this.fLocation = location;
 	}
 
+	/**
+	 * @return the snapshot of the bundle data of the components of this
+	 *         baseline or <code>null</code> if none
+	 */
+	public ApiBaselineSnapshot getSnapshot() {
+		return fSnapshot;
+	}
+
+	/**
+	 * Sets the snapshot the components of this baseline read their bundle data
+	 * from and record it in.
+	 *
+	 * @param snapshot the snapshot or <code>null</code>
+	 */
+	public void setSnapshot(ApiBaselineSnapshot snapshot) {
+		fSnapshot = snapshot;
+	}
+
 	@Override
 	public IApiComponent getApiComponent(IProject project) {
 		loadBaselineInfos();
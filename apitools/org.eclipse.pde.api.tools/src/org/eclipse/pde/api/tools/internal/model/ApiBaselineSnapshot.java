@@ -0,0 +1,578 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.jar.JarFile;
+
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Binary snapshot of the data the components of a persisted API baseline read
+ * from their bundles: the manifest, the .api_description file and the names
+ * of the packages of the bundle.
+ * <p>
+ * An entry is kept per bundle location with a fingerprint of the bundle. For a
+ * jar the fingerprint is its modification time and size, for a directory the
+ * modification times of its manifest and .api_description file. An entry is
+ * only used as long as the bundle has the same fingerprint. Entries are
+ * completed while the components of the baseline read their bundles, the
+ * snapshot then needs to be written again.
+ * </p>
+ * <p>
+ * Only the fingerprints of the entries and the position of their data in the
+ * file are kept in memory, the data is read from the file when a component
+ * asks for it. Data recorded since the snapshot was read is held in memory
+ * until the snapshot is written. The file is written to a temporary file that
+ * replaces it once complete.
+ * </p>
+ * <p>
+ * The package names of a directory bundle are not kept: they come from its
+ * class files and Bundle-ClassPath entries, which the fingerprint of the
+ * directory does not cover.
+ * </p>
+ */
+public final class ApiBaselineSnapshot {
+
+	private static final int FORMAT_VERSION = 2;
+
+	/**
+	 * Data of a bundle. The data in the file of the snapshot is described by
+	 * the position and the stored flags, the data recorded since the snapshot
+	 * was read or written by the other fields, which are <code>null</code>
+	 * until known.
+	 */
+	private static class Entry {
+		final long stamp1;
+		final long stamp2;
+		long offset = -1;
+		boolean manifestStored;
+		boolean apiDescriptionStored;
+		boolean packageNamesStored;
+		volatile Map<String, String> manifest;
+		volatile boolean apiDescriptionKnown;
+		volatile String apiDescription;
+		volatile Set<String> packageNames;
+
+		Entry(long stamp1, long stamp2) {
+			this.stamp1 = stamp1;
+			this.stamp2 = stamp2;
+		}
+
+		boolean isEmpty() {
+			return manifest == null && !manifestStored && !apiDescriptionKnown && !apiDescriptionStored && packageNames == null && !packageNamesStored;
+		}
+	}
+
+	/**
+	 * Counts the bytes read to know the position of the data of the entries
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+		long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+	}
+
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * Guards the file and the stored data of the entries, which a write
+	 * replaces
+	 */
+	private final ReadWriteLock fLock = new ReentrantReadWriteLock();
+
+	private File fFile;
+
+	private volatile boolean fDirty;
+
+	/**
+	 * Reads the entries of the snapshot stored in the given file. Returns an
+	 * empty snapshot if the file does not exist or cannot be read.
+	 *
+	 * @param file the file of the snapshot
+	 * @return the snapshot, never <code>null</code>
+	 */
+	public static ApiBaselineSnapshot read(File file) {
+		ApiBaselineSnapshot snapshot = new ApiBaselineSnapshot();
+		if (file == null || !file.isFile()) {
+			return snapshot;
+		}
+		try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(new FileInputStream(file))); DataInputStream in = new DataInputStream(counter)) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return snapshot;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = readString(in);
+				Entry entry = new Entry(in.readLong(), in.readLong());
+				entry.offset = counter.count;
+				int headers = in.readInt();
+				entry.manifestStored = headers >= 0;
+				for (int j = 0; j < 2 * headers; j++) {
+					skipString(in);
+				}
+				entry.apiDescriptionStored = in.readBoolean();
+				if (entry.apiDescriptionStored && in.readBoolean()) {
+					skipString(in);
+				}
+				int packages = in.readInt();
+				entry.packageNamesStored = packages >= 0;
+				for (int j = 0; j < packages; j++) {
+					skipString(in);
+				}
+				snapshot.fEntries.put(location, entry);
+			}
+			snapshot.fFile = file;
+		} catch (IOException e) {
+			// read the bundles again
+			snapshot.fEntries.clear();
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Writes the entries of the given bundle locations to the given file. The
+	 * data of the written entries is read from the file afterwards.
+	 *
+	 * @param file the file of the snapshot
+	 * @param locations the locations of the components of the baseline
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void write(File file, Collection<String> locations) throws IOException {
+		fLock.writeLock().lock();
+		try {
+			Map<String, Entry> entries = new HashMap<>();
+			for (String location : locations) {
+				Entry entry = fEntries.get(location);
+				if (entry != null && !entry.isEmpty()) {
+					entries.put(location, entry);
+				}
+			}
+			Map<Entry, Entry> written = new HashMap<>();
+			File temp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+					out.writeInt(FORMAT_VERSION);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+						Entry entry = mapEntry.getValue();
+						writeString(out, mapEntry.getKey());
+						out.writeLong(entry.stamp1);
+						out.writeLong(entry.stamp2);
+						Entry stored = new Entry(entry.stamp1, entry.stamp2);
+						stored.offset = out.size();
+						Map<String, String> manifest = entry.manifest != null ? entry.manifest : readStoredManifest(entry);
+						stored.manifestStored = manifest != null;
+						if (manifest == null) {
+							out.writeInt(-1);
+						} else {
+							out.writeInt(manifest.size());
+							for (Map.Entry<String, String> header : manifest.entrySet()) {
+								writeString(out, header.getKey());
+								writeString(out, header.getValue());
+							}
+						}
+						String apiDescription = null;
+						if (entry.apiDescriptionKnown) {
+							stored.apiDescriptionStored = true;
+							apiDescription = entry.apiDescription;
+						} else if (entry.apiDescriptionStored) {
+							try {
+								apiDescription = readStoredApiDescription(entry);
+								stored.apiDescriptionStored = true;
+							} catch (IOException e) {
+								// read the bundle again
+							}
+						}
+						out.writeBoolean(stored.apiDescriptionStored);
+						if (stored.apiDescriptionStored) {
+							out.writeBoolean(apiDescription != null);
+							if (apiDescription != null) {
+								writeString(out, apiDescription);
+							}
+						}
+						Set<String> packageNames = entry.packageNames != null ? entry.packageNames : readStoredPackageNames(entry);
+						stored.packageNamesStored = packageNames != null;
+						if (packageNames == null) {
+							out.writeInt(-1);
+						} else {
+							out.writeInt(packageNames.size());
+							for (String name : packageNames) {
+								writeString(out, name);
+							}
+						}
+						written.put(entry, stored);
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				temp.delete();
+				throw e;
+			}
+			// only the data in the new file is kept
+			for (Entry entry : fEntries.values()) {
+				Entry stored = written.get(entry);
+				if (stored == null) {
+					entry.offset = -1;
+					entry.manifestStored = false;
+					entry.apiDescriptionStored = false;
+					entry.packageNamesStored = false;
+				} else {
+					entry.offset = stored.offset;
+					entry.manifestStored = stored.manifestStored;
+					entry.apiDescriptionStored = stored.apiDescriptionStored;
+					entry.packageNamesStored = stored.packageNamesStored;
+					entry.manifest = null;
+					entry.apiDescriptionKnown = false;
+					entry.apiDescription = null;
+					entry.packageNames = null;
+				}
+			}
+			fFile = file;
+			fDirty = false;
+		} finally {
+			fLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return whether entries were completed since the snapshot was read or
+	 *         written
+	 */
+	public boolean isDirty() {
+		return fDirty;
+	}
+
+	/**
+	 * Returns the manifest headers of the bundle at the given location or
+	 * <code>null</code> if they are not known.
+	 *
+	 * @param location root location of the bundle
+	 * @return a copy of the manifest headers or <code>null</code>
+	 */
+	public Map<String, String> getManifest(File location) {
+		fLock.readLock().lock();
+		try {
+			Entry entry = getEntry(location, false);
+			if (entry == null) {
+				return null;
+			}
+			Map<String, String> manifest = entry.manifest;
+			if (manifest != null) {
+				return new HashMap<>(manifest);
+			}
+			return readStoredManifest(entry);
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Records the manifest headers of the bundle at the given location.
+	 *
+	 * @param location root location of the bundle
+	 * @param manifest the manifest headers
+	 */
+	public void setManifest(File location, Map<String, String> manifest) {
+		fLock.readLock().lock();
+		try {
+			getEntry(location, true).manifest = Collections.unmodifiableMap(new HashMap<>(manifest));
+			fDirty = true;
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns whether the .api_description of the bundle at the given location
+	 * is known, see {@link #getApiDescription(File)}.
+	 *
+	 * @param location root location of the bundle
+	 * @return whether the .api_description file is known
+	 */
+	public boolean isApiDescriptionKnown(File location) {
+		fLock.readLock().lock();
+		try {
+			Entry entry = getEntry(location, false);
+			return entry != null && (entry.apiDescriptionKnown || entry.apiDescriptionStored);
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param location root location of the bundle
+	 * @return the contents of the .api_description file or <code>null</code>
+	 *         if the bundle does not contain one
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	public String getApiDescription(File location) throws IOException {
+		fLock.readLock().lock();
+		try {
+			Entry entry = getEntry(location, false);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.apiDescriptionKnown) {
+				return entry.apiDescription;
+			}
+			return readStoredApiDescription(entry);
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Records the contents of the .api_description file of the bundle at the
+	 * given location.
+	 *
+	 * @param location root location of the bundle
+	 * @param apiDescription the contents of the .api_description file or
+	 *            <code>null</code> if the bundle does not contain one
+	 */
+	public void setApiDescription(File location, String apiDescription) {
+		fLock.readLock().lock();
+		try {
+			Entry entry = getEntry(location, true);
+			entry.apiDescription = apiDescription;
+			entry.apiDescriptionKnown = true;
+			fDirty = true;
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the names of the packages of the bundle at the given location.
+	 * Always <code>null</code> for a directory bundle.
+	 *
+	 * @param location root location of the bundle
+	 * @return the names of the packages of the bundle or <code>null</code> if
+	 *         not known
+	 */
+	public Set<String> getPackageNames(File location) {
+		if (location.isDirectory()) {
+			return null;
+		}
+		fLock.readLock().lock();
+		try {
+			Entry entry = getEntry(location, false);
+			if (entry == null) {
+				return null;
+			}
+			Set<String> packageNames = entry.packageNames;
+			if (packageNames != null) {
+				return new HashSet<>(packageNames);
+			}
+			return readStoredPackageNames(entry);
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Records the names of the packages of the bundle at the given location.
+	 * Ignored for a directory bundle.
+	 *
+	 * @param location root location of the bundle
+	 * @param packageNames the names of the packages of the bundle
+	 */
+	public void setPackageNames(File location, Set<String> packageNames) {
+		if (location.isDirectory()) {
+			return;
+		}
+		fLock.readLock().lock();
+		try {
+			getEntry(location, true).packageNames = Collections.unmodifiableSet(new HashSet<>(packageNames));
+			fDirty = true;
+		} finally {
+			fLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the entry of the given location if the fingerprint of the bundle
+	 * did not change. An outdated entry is replaced by an empty one if
+	 * <code>create</code> is set.
+	 */
+	private Entry getEntry(File location, boolean create) {
+		long stamp1;
+		long stamp2;
+		if (location.isDirectory()) {
+			stamp1 = new File(location, JarFile.MANIFEST_NAME).lastModified();
+			stamp2 = new File(location, IApiCoreConstants.API_DESCRIPTION_XML_NAME).lastModified();
+		} else {
+			stamp1 = location.lastModified();
+			stamp2 = location.length();
+		}
+		String key = location.getAbsolutePath();
+		Entry entry = fEntries.get(key);
+		if (entry != null && entry.stamp1 == stamp1 && entry.stamp2 == stamp2) {
+			return entry;
+		}
+		if (!create) {
+			return null;
+		}
+		return fEntries.compute(key, (k, current) -> current != null && current.stamp1 == stamp1 && current.stamp2 == stamp2 ? current : new Entry(stamp1, stamp2));
+	}
+
+	/**
+	 * Opens the file of the snapshot at the data of the given entry, has to be
+	 * called with the lock held
+	 */
+	private DataInputStream openStored(Entry entry) throws IOException {
+		FileInputStream stream = new FileInputStream(fFile);
+		try {
+			stream.getChannel().position(entry.offset);
+		} catch (IOException e) {
+			stream.close();
+			throw e;
+		}
+		return new DataInputStream(new BufferedInputStream(stream));
+	}
+
+	/**
+	 * Returns the manifest headers stored for the given entry or
+	 * <code>null</code> if none are stored or they cannot be read
+	 */
+	private Map<String, String> readStoredManifest(Entry entry) {
+		if (!entry.manifestStored) {
+			return null;
+		}
+		try (DataInputStream in = openStored(entry)) {
+			int headers = in.readInt();
+			Map<String, String> manifest = new HashMap<>(headers);
+			for (int i = 0; i < headers; i++) {
+				manifest.put(readString(in), readString(in));
+			}
+			return manifest;
+		} catch (IOException e) {
+			// read the bundle again
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the .api_description stored for the given entry or
+	 * <code>null</code> if none is stored
+	 */
+	private String readStoredApiDescription(Entry entry) throws IOException {
+		if (!entry.apiDescriptionStored) {
+			return null;
+		}
+		try (DataInputStream in = openStored(entry)) {
+			int headers = in.readInt();
+			for (int i = 0; i < 2 * headers; i++) {
+				skipString(in);
+			}
+			return in.readBoolean() && in.readBoolean() ? readString(in) : null;
+		}
+	}
+
+	/**
+	 * Returns the package names stored for the given entry or
+	 * <code>null</code> if none are stored or they cannot be read
+	 */
+	private Set<String> readStoredPackageNames(Entry entry) {
+		if (!entry.packageNamesStored) {
+			return null;
+		}
+		try (DataInputStream in = openStored(entry)) {
+			int headers = in.readInt();
+			for (int i = 0; i < 2 * headers; i++) {
+				skipString(in);
+			}
+			if (in.readBoolean() && in.readBoolean()) {
+				skipString(in);
+			}
+			int packages = in.readInt();
+			Set<String> names = new HashSet<>(packages);
+			for (int i = 0; i < packages; i++) {
+				names.add(readString(in));
+			}
+			return names;
+		} catch (IOException e) {
+			// read the bundle again
+			return null;
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void skipString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (in.skipBytes(length) != length) {
+			throw new IOException("Truncated snapshot"); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = (value == null ? Util.EMPTY_STRING : value).getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -71,7 +71,7 @@ public class ApiModelFactory {
 	/**
 	 * @return a viable int id for a bundle
 	 */
-	private static long getBundleID() {
+	private static synchronized long getBundleID() {
 		return fNextId++;
 	}
 
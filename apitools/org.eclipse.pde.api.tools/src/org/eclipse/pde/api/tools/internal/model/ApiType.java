@@ -14,12 +14,15 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -67,14 +70,45 @@ public class ApiType extends ApiMember implements IApiType {
 	 */
 	private static final String NO_ENCLOSING_METHOD = Util.EMPTY_STRING;
 
+	/*
+	 * Members are kept in declaration order in arrays, types with more than
+	 * this number of fields or methods get an index for their lookups
+	 */
+	private static final int MEMBER_INDEX_THRESHOLD = 16;
+
+	/*
+	 * Bits of fTypeKind
+	 */
+	private static final int ANONYMOUS = 0x1;
+	private static final int LOCAL = 0x2;
+	private static final int MEMBER_TYPE = 0x4;
+
+	/**
+	 * Fields in declaration order, the first fFieldCount entries are used
+	 */
+	private ApiField[] fFields;
+	private int fFieldCount;
 	/**
-	 * Maps field name to field element.
+	 * Maps field name to the index of the field, <code>null</code> for small
+	 * types
 	 */
-	private Map<String, ApiField> fFields;
+	private Map<String, Integer> fFieldIndex;
 	/**
-	 * Maps method name/signature pair to method element.
+	 * Methods in declaration order, the first fMethodCount entries are used
 	 */
-	private LinkedHashMap<MethodKey, ApiMethod> fMethods;
+	private ApiMethod[] fMethods;
+	private int fMethodCount;
+	/**
+	 * Maps method name/signature pair to the index of the method,
+	 * <code>null</code> for small types
+	 */
+	private Map<MethodKey, Integer> fMethodIndex;
+
+	/**
+	 * Whether the fields and methods still have to be read from the class
+	 * file of this type, see {@link #setMembersDeferred()}
+	 */
+	private volatile boolean fMembersDeferred;
 
 	/**
 	 * Map of member type names to class file (or null until resolved)
@@ -112,19 +146,11 @@ public class ApiType extends ApiMember implements IApiType {
 	private String fEnclosingMethodName = null;
 
 	/**
-	 * If this is an anonymous class or not
-	 */
-	private boolean fAnonymous = false;
-
-	/**
-	 * If this is a local type or not (class defined in a method)
-	 */
-	private boolean fLocal = false;
-
-	/**
-	 * If this is a member type or not (class defined in a method)
+	 * If this is an anonymous class, a local type (class defined in a method)
+	 * or a member type, see {@link #ANONYMOUS}, {@link #LOCAL} and
+	 * {@link #MEMBER_TYPE}
 	 */
-	private boolean fMemberType = false;
+	private byte fTypeKind;
 
 	/**
 	 * cached enclosing type once it has been successfully calculated
@@ -166,18 +192,22 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public IApiField getField(String name) {
-		if (fFields != null) {
-			return fFields.get(name);
+		ensureMembers();
+		synchronized (this) {
+			int index = indexOfField(name);
+			return index < 0 ? null : fFields[index];
 		}
-		return null;
 	}
 
 	@Override
 	public IApiField[] getFields() {
-		if (fFields != null) {
-			return fFields.values().toArray(new IApiField[fFields.size()]);
+		ensureMembers();
+		synchronized (this) {
+			if (fFieldCount == 0) {
+				return EMPTY_FIELDS;
+			}
+			return Arrays.copyOf(fFields, fFieldCount, IApiField[].class);
 		}
-		return EMPTY_FIELDS;
 	}
 
 	@Override
@@ -194,12 +224,22 @@ public class ApiType extends ApiMember implements IApiType {
 	 * @param modifiers method modifiers
 	 * @param exceptions names of thrown exceptions
 	 */
-	public ApiMethod addMethod(String name, String signature, String genericSig, int modifiers, String[] exceptions) {
+	public synchronized ApiMethod addMethod(String name, String signature, String genericSig, int modifiers, String[] exceptions) {
+		ApiMethod method = new ApiMethod(this, name, signature, genericSig, modifiers, exceptions);
+		int index = indexOfMethod(name, signature);
+		if (index >= 0) {
+			fMethods[index] = method;
+			return method;
+		}
 		if (fMethods == null) {
-			fMethods = new LinkedHashMap<>();
+			fMethods = new ApiMethod[4];
+		} else if (fMethodCount == fMethods.length) {
+			fMethods = Arrays.copyOf(fMethods, fMethodCount * 2);
 		}
-		ApiMethod method = new ApiMethod(this, name, signature, genericSig, modifiers, exceptions);
-		fMethods.put(new MethodKey(getName(), name, signature, true), method);
+		if (fMethodIndex != null) {
+			fMethodIndex.put(new MethodKey(null, name, signature, false), Integer.valueOf(fMethodCount));
+		}
+		fMethods[fMethodCount++] = method;
 		return method;
 	}
 
@@ -212,29 +252,133 @@ public class ApiType extends ApiMember implements IApiType {
 	 * @param modifiers field modifiers
 	 * @param value constant value or <code>null</code> if none
 	 */
-	public ApiField addField(String name, String signature, String genericSig, int modifiers, Object value) {
+	public synchronized ApiField addField(String name, String signature, String genericSig, int modifiers, Object value) {
+		ApiField field = new ApiField(this, name, signature, genericSig, modifiers, value);
+		int index = indexOfField(name);
+		if (index >= 0) {
+			fFields[index] = field;
+			return field;
+		}
 		if (fFields == null) {
-			fFields = new LinkedHashMap<>();
+			fFields = new ApiField[4];
+		} else if (fFieldCount == fFields.length) {
+			fFields = Arrays.copyOf(fFields, fFieldCount * 2);
 		}
-		ApiField field = new ApiField(this, name, signature, genericSig, modifiers, value);
-		fFields.put(name, field);
+		if (fFieldIndex != null) {
+			fFieldIndex.put(name, Integer.valueOf(fFieldCount));
+		}
+		fFields[fFieldCount++] = field;
 		return field;
 	}
 
 	@Override
 	public IApiMethod getMethod(String name, String signature) {
-		if (fMethods != null) {
-			return fMethods.get(new MethodKey(getName(), name, signature, true));
+		ensureMembers();
+		synchronized (this) {
+			int index = indexOfMethod(name, signature);
+			return index < 0 ? null : fMethods[index];
 		}
-		return null;
 	}
 
 	@Override
 	public IApiMethod[] getMethods() {
-		if (fMethods != null) {
-			return fMethods.values().toArray(new IApiMethod[fMethods.size()]);
+		ensureMembers();
+		synchronized (this) {
+			if (fMethodCount == 0) {
+				return EMPTY_METHODS;
+			}
+			return Arrays.copyOf(fMethods, fMethodCount, IApiMethod[].class);
+		}
+	}
+
+	/**
+	 * Returns the index of the field with the given name or <code>-1</code>
+	 */
+	private int indexOfField(String name) {
+		if (fFieldCount > MEMBER_INDEX_THRESHOLD) {
+			if (fFieldIndex == null) {
+				fFieldIndex = new HashMap<>();
+				for (int i = 0; i < fFieldCount; i++) {
+					fFieldIndex.put(fFields[i].getName(), Integer.valueOf(i));
+				}
+			}
+			Integer index = fFieldIndex.get(name);
+			return index == null ? -1 : index.intValue();
+		}
+		for (int i = 0; i < fFieldCount; i++) {
+			if (fFields[i].getName().equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the method with the given name and signature or
+	 * <code>-1</code>
+	 */
+	private int indexOfMethod(String name, String signature) {
+		if (fMethodCount > MEMBER_INDEX_THRESHOLD) {
+			if (fMethodIndex == null) {
+				fMethodIndex = new HashMap<>();
+				for (int i = 0; i < fMethodCount; i++) {
+					fMethodIndex.put(new MethodKey(null, fMethods[i].getName(), fMethods[i].getSignature(), false), Integer.valueOf(i));
+				}
+			}
+			Integer index = fMethodIndex.get(new MethodKey(null, name, signature, false));
+			return index == null ? -1 : index.intValue();
+		}
+		for (int i = 0; i < fMethodCount; i++) {
+			ApiMethod method = fMethods[i];
+			if (method.getName().equals(name) && Objects.equals(method.getSignature(), signature)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Used when building a type structure. The fields and methods of this
+	 * type are only read from the class file of its type root when they are
+	 * first requested.
+	 */
+	void setMembersDeferred() {
+		fMembersDeferred = true;
+	}
+
+	/**
+	 * Reads the fields and methods of this type if they were deferred. If they
+	 * cannot be read, the type fails rather than answering no members, which
+	 * would be reported as removed members.
+	 *
+	 * @throws IllegalStateException if the members cannot be read
+	 */
+	private void ensureMembers() {
+		if (fMembersDeferred) {
+			synchronized (this) {
+				if (fMembersDeferred) {
+					try {
+						TypeStructureBuilder.buildMembers(this);
+					} catch (CoreException e) {
+						throw new IllegalStateException("Failed to read the members of " + getName(), e); //$NON-NLS-1$
+					}
+					fMembersDeferred = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Used when building a type structure, once all members have been added.
+	 * Releases the unused capacity of the member arrays.
+	 */
+	synchronized void trimMembers() {
+		if (fFields != null && fFields.length != fFieldCount) {
+			fFields = Arrays.copyOf(fFields, fFieldCount);
+		}
+		if (fMethods != null && fMethods.length != fMethodCount) {
+			fMethods = Arrays.copyOf(fMethods, fMethodCount);
 		}
-		return EMPTY_METHODS;
 	}
 
 	@Override
@@ -387,12 +531,12 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public boolean isAnonymous() {
-		return fAnonymous;
+		return (fTypeKind & ANONYMOUS) != 0;
 	}
 
 	@Override
 	public boolean isLocal() {
-		return fLocal;
+		return (fTypeKind & LOCAL) != 0;
 	}
 
 	@Override
@@ -404,21 +548,21 @@ public class ApiType extends ApiMember implements IApiType {
 	 * Used when building a type structure.
 	 */
 	public void setAnonymous() {
-		fAnonymous = true;
+		fTypeKind |= ANONYMOUS;
 	}
 
 	/**
 	 * Used when building a type structure.
 	 */
 	public void setMemberType() {
-		fMemberType = true;
+		fTypeKind |= MEMBER_TYPE;
 	}
 
 	/**
 	 * Used when building a type structure for pre-1.5 sources
 	 */
 	public void setLocal() {
-		fLocal = true;
+		fTypeKind |= LOCAL;
 	}
 
 	/**
@@ -483,7 +627,7 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public boolean isMemberType() {
-		return fMemberType;
+		return (fTypeKind & MEMBER_TYPE) != 0;
 	}
 
 	@Override
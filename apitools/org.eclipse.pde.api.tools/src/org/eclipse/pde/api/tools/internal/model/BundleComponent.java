@@ -202,7 +202,15 @@ public class BundleComponent extends Component {
 		if (fManifest != null) {
 			return fManifest;
 		}
-		Map<String, String> manifest = loadManifest(new File(fLocation), isWorkspaceBinary());
+		File location = new File(fLocation);
+		ApiBaselineSnapshot snapshot = getSnapshot();
+		Map<String, String> manifest = snapshot != null ? snapshot.getManifest(location) : null;
+		if (manifest == null) {
+			manifest = loadManifest(location, isWorkspaceBinary());
+			if (snapshot != null && manifest != null) {
+				snapshot.setManifest(location, manifest);
+			}
+		}
 		synchronized (this) {
 			if (fManifest == null) {
 				fManifest = manifest;
@@ -375,6 +383,20 @@ public class BundleComponent extends Component {
 		return state.getBundle(name[0].getValue(), version);
 	}
 
+	/**
+	 * Returns the snapshot of the baseline this component reads its bundle data
+	 * from, or <code>null</code> if the data is read from the bundle.
+	 *
+	 * @return the snapshot of the owning baseline or <code>null</code>
+	 */
+	private ApiBaselineSnapshot getSnapshot() {
+		IApiBaseline baseline = getBaseline();
+		if (!isBinary() || !(baseline instanceof ApiBaseline)) {
+			return null;
+		}
+		return ((ApiBaseline) baseline).getSnapshot();
+	}
+
 	/**
 	 * Returns whether this API component represents a binary bundle versus a
 	 * project bundle.
@@ -422,7 +444,17 @@ public class BundleComponent extends Component {
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			File location = new File(fLocation);
+			ApiBaselineSnapshot snapshot = getSnapshot();
+			String xml;
+			if (snapshot != null && snapshot.isApiDescriptionKnown(location)) {
+				xml = snapshot.getApiDescription(location);
+			} else {
+				xml = loadApiDescription(location);
+				if (snapshot != null) {
+					snapshot.setApiDescription(location, xml);
+				}
+			}
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
@@ -441,7 +473,13 @@ public class BundleComponent extends Component {
 	 * @throws CoreException
 	 */
 	protected Set<String> getLocalPackageNames() throws CoreException {
-		Set<String> names = new HashSet<>();
+		File location = new File(fLocation);
+		ApiBaselineSnapshot snapshot = getSnapshot();
+		Set<String> names = snapshot != null ? snapshot.getPackageNames(location) : null;
+		if (names != null) {
+			return names;
+		}
+		names = new HashSet<>();
 		IApiTypeContainer[] containers = getApiTypeContainers();
 		IApiComponent comp = null;
 		for (IApiTypeContainer container : containers) {
@@ -451,6 +489,9 @@ public class BundleComponent extends Component {
 				Collections.addAll(names, packageNames);
 			}
 		}
+		if (snapshot != null) {
+			snapshot.setPackageNames(location, names);
+		}
 		return names;
 	}
 
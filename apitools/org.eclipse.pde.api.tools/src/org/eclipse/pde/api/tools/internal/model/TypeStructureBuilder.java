@@ -43,9 +43,25 @@ import org.objectweb.asm.tree.ClassNode;
  * Class adapter used to create an API type structure
  */
 public class TypeStructureBuilder extends ClassVisitor {
+
+	/*
+	 * The fields and methods of the types of archives are read
+	 * when they are first requested. To read them with the type, specify VM
+	 * property: {@code -Dorg.eclipse.pde.api.tools.eagerTypeMembers=true}
+	 */
+	private static final boolean EAGER_MEMBERS = Boolean.getBoolean("org.eclipse.pde.api.tools.eagerTypeMembers"); //$NON-NLS-1$
+
 	ApiType fType;
 	IApiComponent fComponent;
 	IApiTypeRoot fFile;
+	/**
+	 * Whether the fields and methods are skipped, to be read later
+	 */
+	boolean fSkipMembers = false;
+	/**
+	 * Whether only the fields and methods are added to an existing type
+	 */
+	boolean fMembersOnly = false;
 
 	/**
 	 * Builds a type structure for a class file. Note that if an API component
@@ -64,6 +80,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 
 	@Override
 	public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+		if (fMembersOnly) {
+			return;
+		}
 		StringBuilder simpleSig = new StringBuilder();
 		simpleSig.append('L');
 		simpleSig.append(name);
@@ -82,12 +101,12 @@ public class TypeStructureBuilder extends ClassVisitor {
 		}
 		fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
 		if (superName != null) {
-			fType.setSuperclassName(superName.replace('/', '.'));
+			fType.setSuperclassName(superName.replace('/', '.').intern());
 		}
 		if (interfaces != null && interfaces.length > 0) {
 			String[] names = new String[interfaces.length];
 			for (int i = 0; i < names.length; i++) {
-				names[i] = interfaces[i].replace('/', '.');
+				names[i] = interfaces[i].replace('/', '.').intern();
 			}
 			fType.setSuperInterfaceNames(names);
 		}
@@ -96,6 +115,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 
 	@Override
 	public void visitInnerClass(String name, String outerName, String innerName, int access) {
+		if (fMembersOnly) {
+			return;
+		}
 		super.visitInnerClass(name, outerName, innerName, access);
 		String currentName = name.replace('/', '.');
 		if (currentName.equals(fType.getName())) {
@@ -125,22 +147,32 @@ public class TypeStructureBuilder extends ClassVisitor {
 
 	@Override
 	public void visitOuterClass(String owner, String name, String desc) {
+		if (fMembersOnly) {
+			return;
+		}
 		fType.setEnclosingMethodInfo(name, desc);
 	}
 
 	@Override
 	public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+		if (fSkipMembers) {
+			return null;
+		}
 		int laccess = access;
 		if ((access & Opcodes.ACC_DEPRECATED) != 0) {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= ClassFileConstants.AccDeprecated;
 		}
-		fType.addField(name, desc, signature, laccess, value);
+		// names and descriptors repeat across the types of a baseline
+		fType.addField(name.intern(), desc.intern(), signature, laccess, value);
 		return null;
 	}
 
 	@Override
 	public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+		if (fSkipMembers) {
+			return null;
+		}
 		String[] names = null;
 		int laccess = access;
 		if ((laccess & Opcodes.ACC_DEPRECATED) != 0) {
@@ -150,10 +182,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 		if (exceptions != null && exceptions.length > 0) {
 			names = new String[exceptions.length];
 			for (int i = 0; i < names.length; i++) {
-				names[i] = exceptions[i].replace('/', '.');
+				names[i] = exceptions[i].replace('/', '.').intern();
 			}
 		}
-		final ApiMethod method = fType.addMethod(name, desc, signature, laccess, names);
+		final ApiMethod method = fType.addMethod(name.intern(), desc.intern(), signature, laccess, names);
 		return new MethodVisitor(Util.LATEST_OPCODES_ASM,
 				super.visitMethod(laccess, name, desc, signature, exceptions)) {
 			@Override
@@ -257,7 +289,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * @return
 	 */
 	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file) {
-		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+		TypeStructureBuilder visitor = new TypeStructureBuilder(null, component, file);
+		// archive type roots keep the bytes they were read from, the members
+		// are read again from the same bytes
+		visitor.fSkipMembers = !EAGER_MEMBERS && file instanceof ArchiveApiTypeContainer.ArchiveApiTypeRoot;
 		try {
 			ClassReader classReader = new ClassReader(bytes);
 			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
@@ -268,9 +303,37 @@ public class TypeStructureBuilder extends ClassVisitor {
 			// thrown from ASM 5.0 for bad bytecodes
 			return logAndReturn(file, iae);
 		}
+		if (visitor.fType != null) {
+			if (visitor.fSkipMembers) {
+				visitor.fType.setMembersDeferred();
+			} else {
+				visitor.fType.trimMembers();
+			}
+		}
 		return visitor.fType;
 	}
 
+	/**
+	 * Adds the fields and methods read from the class file of the given type,
+	 * see {@link ApiType#setMembersDeferred()}
+	 *
+	 * @param type the type to add the members to
+	 * @throws CoreException if the class file of the type cannot be read
+	 */
+	static void buildMembers(ApiType type) throws CoreException {
+		IApiTypeRoot file = type.getTypeRoot();
+		TypeStructureBuilder visitor = new TypeStructureBuilder(null, type.getApiComponent(), file);
+		visitor.fType = type;
+		visitor.fMembersOnly = true;
+		try {
+			ClassReader classReader = new ClassReader(((AbstractApiTypeRoot) file).getContents());
+			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+		} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+			throw new CoreException(Status.error(NLS.bind(Messages.TypeStructureBuilder_badClassFileEncountered, file.getTypeName()), e));
+		}
+		type.trimMembers();
+	}
+
 	/**
 	 * Builds a type structure with the given .class file bytes in the specified
 	 * API component.
@@ -464,6 +527,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 				// ignore
 			}
 		}
+		if (type != null) {
+			type.trimMembers();
+		}
 		return type;
 	}
 }
@@ -14,6 +14,9 @@
 package org.eclipse.pde.api.tools.internal.search;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -22,17 +25,26 @@ import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -41,6 +53,7 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -517,6 +530,34 @@ public class UseReportConverter extends HTMLConvertor {
 		public int getTotalIllegalRefCount() {
 			return total_illegal_field_count + total_illegal_method_count + total_illegal_type_count;
 		}
+
+		void write(DataOutputStream out) throws IOException {
+			for (int count : new int[] { total_api_field_count, total_private_field_count, total_permissable_field_count,
+					total_fragment_permissible_field_count, total_illegal_field_count, total_api_method_count,
+					total_private_method_count, total_permissable_method_count, total_fragment_permissible_method_count,
+					total_illegal_method_count, total_api_type_count, total_private_type_count,
+					total_permissable_type_count, total_fragment_permissible_type_count, total_illegal_type_count }) {
+				out.writeInt(count);
+			}
+		}
+
+		void read(DataInputStream in) throws IOException {
+			total_api_field_count = in.readInt();
+			total_private_field_count = in.readInt();
+			total_permissable_field_count = in.readInt();
+			total_fragment_permissible_field_count = in.readInt();
+			total_illegal_field_count = in.readInt();
+			total_api_method_count = in.readInt();
+			total_private_method_count = in.readInt();
+			total_permissable_method_count = in.readInt();
+			total_fragment_permissible_method_count = in.readInt();
+			total_illegal_method_count = in.readInt();
+			total_api_type_count = in.readInt();
+			total_private_type_count = in.readInt();
+			total_permissable_type_count = in.readInt();
+			total_fragment_permissible_type_count = in.readInt();
+			total_illegal_type_count = in.readInt();
+		}
 	}
 
 	/**
@@ -615,6 +656,16 @@ public class UseReportConverter extends HTMLConvertor {
 	private int filteredCount = -1;
 	Pattern[] topatterns = null;
 	Pattern[] frompatterns = null;
+	private int threads = 1;
+	private boolean incremental = false;
+	private final Map<String, Templates> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * Directory of the HTML root holding the state of the pages written for
+	 * each referenced component, see {@link #setIncremental(boolean)}
+	 */
+	private static final String REPORT_STATE_DIR = ".report_state"; //$NON-NLS-1$
+	private static final int REPORT_STATE_VERSION = 1;
 
 	/**
 	 * Constructor
@@ -664,6 +715,29 @@ public class UseReportConverter extends HTMLConvertor {
 		}
 	}
 
+	/**
+	 * Sets the number of referenced components whose pages are written at the
+	 * same time. Values lower than <code>1</code> are treated as
+	 * <code>1</code>. Defaults to <code>1</code>.
+	 *
+	 * @param threads the number of components to convert at the same time
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Sets whether only the pages of the referenced components whose XML files
+	 * changed since the last conversion to the same HTML location are written
+	 * again. The pages of the other components are kept, the index pages are
+	 * always written. Defaults to <code>false</code>.
+	 *
+	 * @param incremental whether to only convert the changed components
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	protected String getHtmlLocation() {
 		return this.htmlLocation;
 	}
@@ -753,12 +827,227 @@ public class UseReportConverter extends HTMLConvertor {
 	}
 
 	protected List<?> parse(IProgressMonitor monitor) throws Exception {
-		UseScanParser lparser = new UseScanParser();
+		if (this.threads <= 1 && !this.incremental) {
+			UseScanParser lparser = new UseScanParser();
+			Visitor convertor = new Visitor();
+			lparser.parse(getXmlLocation(), monitor, convertor);
+			return convertor.reports;
+		}
+		File[] referees = new UseScanParser().getDirectories(getReportsRoot());
+		if (referees == null) {
+			referees = new File[0];
+		}
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, referees.length);
+		if (this.incremental) {
+			deleteRemovedReports(referees);
+		}
+		ArrayList<Report> reports = new ArrayList<>();
+		if (this.threads <= 1 || referees.length <= 1) {
+			for (File referee : referees) {
+				localmonitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { referee.getName() }));
+				reports.addAll(parseReferee(referee));
+				localmonitor.split(1);
+			}
+			return reports;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.threads, referees.length));
+		try {
+			List<Future<List<Report>>> futures = new ArrayList<>(referees.length);
+			for (File referee : referees) {
+				futures.add(executor.submit(() -> parseReferee(referee)));
+			}
+			// keep the order of a sequential conversion
+			for (Future<List<Report>> future : futures) {
+				reports.addAll(future.get());
+				localmonitor.split(1);
+			}
+			return reports;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Writes the pages of the component whose references are in the given top
+	 * level directory of the use scan. In incremental mode the pages are kept
+	 * if the XML files of the directory did not change since they were
+	 * written.
+	 *
+	 * @param referee the directory of the referenced component
+	 * @return the report of the component, or an empty list if the component
+	 *         has no references
+	 */
+	List<Report> parseReferee(File referee) throws Exception {
+		String fingerprint = null;
+		File state = null;
+		if (this.incremental) {
+			fingerprint = getFingerprint(referee);
+			state = new File(new File(getHtmlLocation(), REPORT_STATE_DIR), referee.getName());
+			List<Report> reports = readReportState(state, fingerprint);
+			if (reports != null) {
+				return reports;
+			}
+			// do not keep the pages of members that are no longer referenced
+			deleteReportPages(state);
+		}
 		Visitor convertor = new Visitor();
-		lparser.parse(getXmlLocation(), monitor, convertor);
+		new UseScanParser().parse(new File[] { referee }, null, convertor);
+		if (state != null) {
+			writeReportState(state, fingerprint, convertor.reports);
+		}
 		return convertor.reports;
 	}
 
+	/**
+	 * Returns a fingerprint of the content of the XML files of the given
+	 * directory and of the settings of this converter. The use scan writes
+	 * all its files again, so their time stamps cannot be used.
+	 */
+	private String getFingerprint(File referee) throws Exception {
+		File[] xmlfiles = Util.getAllFiles(referee, pathname -> pathname.isDirectory() || pathname.getName().endsWith(XML_EXTENSION));
+		if (xmlfiles == null) {
+			xmlfiles = new File[0];
+		}
+		Arrays.sort(xmlfiles);
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(getClass().getName()).append('|');
+		appendPatterns(buffer, this.topatterns);
+		appendPatterns(buffer, this.frompatterns);
+		MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		digest.update(buffer.toString().getBytes(StandardCharsets.UTF_8));
+		int rootLength = referee.getAbsolutePath().length();
+		byte[] bytes = new byte[8192];
+		for (File xmlfile : xmlfiles) {
+			digest.update(xmlfile.getAbsolutePath().substring(rootLength).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			try (InputStream in = new FileInputStream(xmlfile)) {
+				int read;
+				while ((read = in.read(bytes)) != -1) {
+					digest.update(bytes, 0, read);
+				}
+			}
+			digest.update((byte) 0);
+		}
+		byte[] hash = digest.digest();
+		StringBuilder hex = new StringBuilder(hash.length * 2);
+		for (byte b : hash) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	/**
+	 * Deletes the pages and the state of the components that were converted
+	 * to the HTML location before but are no longer part of the use scan
+	 *
+	 * @param referees the directories of the referenced components of the use
+	 *            scan
+	 */
+	private void deleteRemovedReports(File[] referees) {
+		File[] states = new File(getHtmlLocation(), REPORT_STATE_DIR).listFiles();
+		if (states == null) {
+			return;
+		}
+		Set<String> names = new HashSet<>();
+		for (File referee : referees) {
+			names.add(referee.getName());
+		}
+		for (File state : states) {
+			if (!names.contains(state.getName())) {
+				deleteReportPages(state);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the pages of the component recorded in the given state file and
+	 * the state file
+	 */
+	private void deleteReportPages(File state) {
+		if (!state.isFile()) {
+			return;
+		}
+		String name = null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(state)))) {
+			if (in.readInt() == REPORT_STATE_VERSION) {
+				in.readUTF();
+				if (in.readBoolean()) {
+					name = in.readUTF();
+				}
+			}
+		} catch (IOException e) {
+			// the pages are unknown, only forget the state
+		}
+		if (name != null && !name.isEmpty()) {
+			Util.delete(new File(getHtmlLocation(), name));
+		}
+		state.delete();
+	}
+
+	private static void appendPatterns(StringBuilder buffer, Pattern[] patterns) {
+		if (patterns != null) {
+			for (Pattern pattern : patterns) {
+				buffer.append(pattern.pattern()).append(',');
+			}
+		}
+		buffer.append('|');
+	}
+
+	/**
+	 * Returns the report stored in the given state file if it was written for
+	 * the given fingerprint and its pages still exist, <code>null</code>
+	 * otherwise
+	 */
+	private List<Report> readReportState(File state, String fingerprint) {
+		if (!state.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(state)))) {
+			if (in.readInt() != REPORT_STATE_VERSION || !fingerprint.equals(in.readUTF())) {
+				return null;
+			}
+			List<Report> reports = new ArrayList<>(1);
+			if (in.readBoolean()) {
+				Report report = new Report();
+				report.name = in.readUTF();
+				report.counts.read(in);
+				if (!new File(new File(getHtmlLocation(), report.name), "index.html").isFile()) { //$NON-NLS-1$
+					return null;
+				}
+				reports.add(report);
+			}
+			return reports;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void writeReportState(File state, String fingerprint, List<Report> reports) {
+		state.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(state)))) {
+			out.writeInt(REPORT_STATE_VERSION);
+			out.writeUTF(fingerprint);
+			out.writeBoolean(!reports.isEmpty());
+			if (!reports.isEmpty()) {
+				Report report = reports.get(0);
+				out.writeUTF(report.name);
+				report.counts.write(out);
+			}
+		} catch (IOException e) {
+			// convert the component again next time
+			state.delete();
+		}
+	}
+
 	/**
 	 * Returns the handle to the default parser, caches the handle once it has
 	 * been created
@@ -822,19 +1111,27 @@ public class UseReportConverter extends HTMLConvertor {
 	 * @throws TransformerException
 	 */
 	protected void applyXSLT(File xsltFile, File xmlfile, File htmloutput) throws TransformerException, Exception {
-		Source xslt = null;
-		if (xsltFile != null) {
-			xslt = new StreamSource(xsltFile);
-		} else {
-			InputStream defaultXsltInputStream = UseReportConverter.class.getResourceAsStream(DEFAULT_XSLT);
-			if (defaultXsltInputStream != null) {
-				xslt = new StreamSource(new BufferedInputStream(defaultXsltInputStream));
+		String key = xsltFile != null ? xsltFile.getAbsolutePath() : DEFAULT_XSLT;
+		Templates compiled = this.templates.get(key);
+		if (compiled == null) {
+			Source xslt = null;
+			if (xsltFile != null) {
+				xslt = new StreamSource(xsltFile);
+			} else {
+				InputStream defaultXsltInputStream = UseReportConverter.class.getResourceAsStream(DEFAULT_XSLT);
+				if (defaultXsltInputStream != null) {
+					xslt = new StreamSource(new BufferedInputStream(defaultXsltInputStream));
+				}
 			}
+			if (xslt == null) {
+				throw new Exception(SearchMessages.UseReportConverter_no_xstl_specified);
+			}
+			// compiled once, a transformer is created per transformation
+			compiled = TransformerFactory.newInstance().newTemplates(xslt);
+			this.templates.put(key, compiled);
 		}
-		if (xslt == null) {
-			throw new Exception(SearchMessages.UseReportConverter_no_xstl_specified);
-		}
-		applyXSLT(xslt, xmlfile, htmloutput);
+		Transformer former = compiled.newTransformer();
+		former.transform(new StreamSource(xmlfile), new StreamResult(htmloutput));
 	}
 
 	/**
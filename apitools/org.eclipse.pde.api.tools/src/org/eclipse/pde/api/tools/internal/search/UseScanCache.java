@@ -0,0 +1,394 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Cache of the references found by an API use scan, kept per scanned
+ * component between scans.
+ * <p>
+ * The entry of a component is stored in its own file of the cache directory
+ * with a key computed from the symbolic name, version and content hash of the
+ * component, the same of each of its prerequisites, and the settings of the
+ * scan. The references of a component can only resolve to itself or its
+ * prerequisites, so as long as none of them changed the entry can be reported
+ * instead of scanning the component again.
+ * </p>
+ */
+public final class UseScanCache {
+
+	private static final int FORMAT_VERSION = 1;
+	private static final String CACHE_FILE_EXTENSION = ".refs"; //$NON-NLS-1$
+
+	/**
+	 * References recorded for a component
+	 */
+	private static class Entry {
+		final String key;
+		final List<IReferenceDescriptor> references = new ArrayList<>();
+		int filteredCount;
+
+		Entry(String key) {
+			this.key = key;
+		}
+	}
+
+	private final File fCacheDir;
+	private final String fSettings;
+	private final String fFilterRoot;
+	private final Set<String> fReferencedIds;
+	private final Map<IApiComponent, String> fContentHashes = new HashMap<>();
+	private final Map<String, String> fKeys = new HashMap<>();
+	private final Map<String, Entry> fRecorded = new HashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param cacheDir the directory of the cache files
+	 * @param settings the settings of the scan that change the references
+	 *            reported for a component
+	 * @param filterRoot the root of the .api_filters files used by the scan or
+	 *            <code>null</code>
+	 * @param referencedIds the ids of the components references to are
+	 *            reported
+	 */
+	public UseScanCache(File cacheDir, String settings, String filterRoot, Set<String> referencedIds) {
+		fCacheDir = cacheDir;
+		fSettings = settings;
+		fFilterRoot = filterRoot;
+		fReferencedIds = referencedIds;
+	}
+
+	/**
+	 * Reports the cached references of the given component to the given
+	 * reporter if the component and its prerequisites did not change since
+	 * they were cached.
+	 *
+	 * @param component the component to report the references of
+	 * @param reporter the reporter of the scan
+	 * @return whether the cached references were reported
+	 */
+	public boolean reportCached(IApiComponent component, XmlSearchReporter reporter) {
+		File file = getCacheFile(component);
+		if (!file.isFile()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(getKey(component))) {
+				return false;
+			}
+			int filteredCount = in.readInt();
+			IReferenceDescriptor[] references = new IReferenceDescriptor[in.readInt()];
+			for (int i = 0; i < references.length; i++) {
+				references[i] = readReference(in);
+			}
+			reporter.reportCachedResults(references, filteredCount);
+			return true;
+		} catch (IOException | CoreException | IllegalArgumentException e) {
+			// scan the component again
+			return false;
+		}
+	}
+
+	/**
+	 * Starts recording the references reported for the given component, which
+	 * is about to be scanned. Nothing is recorded if the key of the component
+	 * cannot be computed.
+	 *
+	 * @param component the scanned component
+	 */
+	public void startRecording(IApiComponent component) {
+		try {
+			fRecorded.put(component.getSymbolicName(), new Entry(getKey(component)));
+		} catch (CoreException e) {
+			// the component is not cached
+			getCacheFile(component).delete();
+		}
+	}
+
+	/**
+	 * Records references reported for the given component.
+	 *
+	 * @param component the scanned component
+	 * @param references the reported references
+	 * @param filteredCount the number of references filtered while scanning
+	 *            the references
+	 */
+	void record(IApiComponent component, IReferenceDescriptor[] references, int filteredCount) {
+		Entry entry = fRecorded.get(component.getSymbolicName());
+		if (entry != null) {
+			entry.references.addAll(Arrays.asList(references));
+			entry.filteredCount += filteredCount;
+		}
+	}
+
+	/**
+	 * Writes the recorded entries to the cache directory. Entries that cannot
+	 * be written are removed from the cache.
+	 */
+	public void save() {
+		fCacheDir.mkdirs();
+		for (Map.Entry<String, Entry> recorded : fRecorded.entrySet()) {
+			Entry entry = recorded.getValue();
+			File file = new File(fCacheDir, recorded.getKey() + CACHE_FILE_EXTENSION);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(entry.key);
+				out.writeInt(entry.filteredCount);
+				out.writeInt(entry.references.size());
+				for (IReferenceDescriptor reference : entry.references) {
+					writeReference(out, reference);
+				}
+			} catch (IOException e) {
+				file.delete();
+			}
+		}
+		fRecorded.clear();
+	}
+
+	private File getCacheFile(IApiComponent component) {
+		return new File(fCacheDir, component.getSymbolicName() + CACHE_FILE_EXTENSION);
+	}
+
+	/**
+	 * Returns the key of the entry of the given component, see
+	 * {@link UseScanCache}
+	 */
+	private String getKey(IApiComponent component) throws CoreException {
+		String key = fKeys.get(component.getSymbolicName());
+		if (key != null) {
+			return key;
+		}
+		MessageDigest digest = newDigest();
+		update(digest, fSettings);
+		update(digest, component.getSymbolicName());
+		update(digest, component.getVersion());
+		update(digest, getContentHash(component));
+		if (fFilterRoot != null) {
+			update(digest, getFileHash(new File(new File(fFilterRoot, component.getSymbolicName()), IApiCoreConstants.API_FILTERS_XML_NAME)));
+			IApiComponent host = component.getHost();
+			if (host != null) {
+				// fragments use the filters of their host
+				update(digest, getFileHash(new File(new File(fFilterRoot, host.getSymbolicName()), IApiCoreConstants.API_FILTERS_XML_NAME)));
+			}
+		}
+		IApiBaseline baseline = component.getBaseline();
+		List<IApiComponent> prerequisites = new ArrayList<>(Arrays.asList(baseline.getPrerequisiteComponents(new IApiComponent[] { component })));
+		prerequisites.sort(Util.componentsorter);
+		for (IApiComponent prerequisite : prerequisites) {
+			update(digest, prerequisite.getSymbolicName());
+			update(digest, prerequisite.getVersion());
+			update(digest, Boolean.toString(fReferencedIds.contains(prerequisite.getSymbolicName())));
+			update(digest, getContentHash(prerequisite));
+		}
+		key = toHex(digest.digest());
+		fKeys.put(component.getSymbolicName(), key);
+		return key;
+	}
+
+	/**
+	 * Returns the hash of the content of the jar or directory of the given
+	 * component, or an empty string for components without a location.
+	 */
+	private String getContentHash(IApiComponent component) throws CoreException {
+		String hash = fContentHashes.get(component);
+		if (hash == null) {
+			String location = component.isSystemComponent() ? null : component.getLocation();
+			hash = location == null ? Util.EMPTY_STRING : getFileHash(new File(location));
+			fContentHashes.put(component, hash);
+		}
+		return hash;
+	}
+
+	private static String getFileHash(File file) throws CoreException {
+		if (!file.exists()) {
+			return Util.EMPTY_STRING;
+		}
+		MessageDigest digest = newDigest();
+		try {
+			if (file.isDirectory()) {
+				Path root = file.toPath();
+				List<Path> files;
+				try (Stream<Path> walk = Files.walk(root)) {
+					files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+				}
+				for (Path path : files) {
+					update(digest, root.relativize(path).toString());
+					updateContent(digest, path.toFile());
+				}
+			} else {
+				updateContent(digest, file);
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Failed to compute the hash of " + file, e)); //$NON-NLS-1$
+		}
+		return toHex(digest.digest());
+	}
+
+	private static void updateContent(MessageDigest digest, File file) throws IOException {
+		byte[] buffer = new byte[8192];
+		try (InputStream in = new FileInputStream(file)) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update((value == null ? Util.EMPTY_STRING : value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder buffer = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return buffer.toString();
+	}
+
+	private static IReferenceDescriptor readReference(DataInputStream in) throws IOException {
+		IComponentDescriptor from = Factory.componentDescriptor(in.readUTF(), readString(in));
+		IMemberDescriptor origin = readMember(in);
+		int line = in.readInt();
+		IComponentDescriptor to = Factory.componentDescriptor(in.readUTF(), readString(in));
+		IMemberDescriptor target = readMember(in);
+		int kind = in.readInt();
+		int flags = in.readInt();
+		int visibility = in.readInt();
+		String[] messages = null;
+		int count = in.readInt();
+		if (count >= 0) {
+			messages = new String[count];
+			for (int i = 0; i < count; i++) {
+				messages[i] = in.readUTF();
+			}
+		}
+		return Factory.referenceDescriptor(from, origin, line, to, target, kind, flags, visibility, messages);
+	}
+
+	private static void writeReference(DataOutputStream out, IReferenceDescriptor reference) throws IOException {
+		IComponentDescriptor from = reference.getComponent();
+		out.writeUTF(from.getId());
+		writeString(out, from.getVersion());
+		writeMember(out, reference.getMember());
+		out.writeInt(reference.getLineNumber());
+		IComponentDescriptor to = reference.getReferencedComponent();
+		out.writeUTF(to.getId());
+		writeString(out, to.getVersion());
+		writeMember(out, reference.getReferencedMember());
+		out.writeInt(reference.getReferenceKind());
+		out.writeInt(reference.getReferenceFlags());
+		out.writeInt(reference.getVisibility());
+		String[] messages = reference.getProblemMessages();
+		if (messages == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(messages.length);
+			for (String message : messages) {
+				out.writeUTF(message);
+			}
+		}
+	}
+
+	private static IMemberDescriptor readMember(DataInputStream in) throws IOException {
+		int type = in.readInt();
+		String typeName = in.readUTF();
+		switch (type) {
+			case IElementDescriptor.TYPE:
+				return Factory.typeDescriptor(typeName);
+			case IElementDescriptor.METHOD:
+				return Factory.methodDescriptor(typeName, in.readUTF(), in.readUTF());
+			case IElementDescriptor.FIELD:
+				return Factory.fieldDescriptor(typeName, in.readUTF());
+			default:
+				throw new IOException("Unknown member type: " + type); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeMember(DataOutputStream out, IMemberDescriptor member) throws IOException {
+		out.writeInt(member.getElementType());
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE:
+				out.writeUTF(((IReferenceTypeDescriptor) member).getQualifiedName());
+				break;
+			case IElementDescriptor.METHOD:
+				out.writeUTF(member.getEnclosingType().getQualifiedName());
+				out.writeUTF(member.getName());
+				out.writeUTF(((IMethodDescriptor) member).getSignature());
+				break;
+			case IElementDescriptor.FIELD:
+				out.writeUTF(member.getEnclosingType().getQualifiedName());
+				out.writeUTF(member.getName());
+				break;
+			default:
+				throw new IOException("Unknown member type: " + member.getElementType()); //$NON-NLS-1$
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+}
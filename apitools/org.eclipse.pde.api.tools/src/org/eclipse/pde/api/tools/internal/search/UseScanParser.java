@@ -239,7 +239,6 @@ public class UseScanParser {
 		if (xmlLocation == null) {
 			throw new Exception(SearchMessages.missing_xml_files_location);
 		}
-		visitor = usv;
 		File reportsRoot = new File(xmlLocation);
 		if (!reportsRoot.exists() || !reportsRoot.isDirectory()) {
 			throw new Exception(NLS.bind(SearchMessages.invalid_directory_name, xmlLocation));
@@ -248,9 +247,23 @@ public class UseScanParser {
 		localmonitor.subTask(SearchMessages.UseReportConverter_collecting_dir_info);
 		File[] referees = getDirectories(reportsRoot);
 		localmonitor.split(1);
+		parse(referees, localmonitor.split(7), usv);
+	}
+
+	/**
+	 * Parses the references to the given components from an API use scan. Each
+	 * of the given directories is a top level directory of the scan, holding
+	 * the references to one component.
+	 *
+	 * @param referees the directories of the referenced components
+	 * @param monitor progress monitor
+	 * @param usv the visitor to visit the references with
+	 */
+	public void parse(File[] referees, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
+		visitor = usv;
+		SubMonitor localmonitor = SubMonitor.convert(monitor, referees.length);
 		File[] origins = null;
 		File[] xmlfiles = null;
-		localmonitor.setWorkRemaining(referees.length);
 		visitor.visitScan();
 		try {
 			SAXParser parser = getParser();
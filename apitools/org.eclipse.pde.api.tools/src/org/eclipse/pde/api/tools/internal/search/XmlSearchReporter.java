@@ -57,6 +57,9 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	private int referenceCount = 0;
 	private int illegalCount = 0;
 	private int internalCount = 0;
+	private int cachedFilteredCount = 0;
+	private int lastFilteredCount = 0;
+	private UseScanCache cache = null;
 
 	/**
 	 * Constructor
@@ -76,45 +79,84 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		}
 	}
 
+	/**
+	 * Sets the cache to record the reported references of scanned components
+	 * in.
+	 *
+	 * @param cache the cache or <code>null</code>
+	 */
+	public void setUseScanCache(UseScanCache cache) {
+		this.cache = cache;
+	}
+
 	@Override
 	public void reportResults(IApiElement element, final IReference[] references) {
+		int filteredCount = AntFilterStore.filteredAPIProblems.size();
+		int filtered = Math.max(0, filteredCount - lastFilteredCount);
+		lastFilteredCount = filteredCount;
 		if (references.length == 0) {
+			if (cache != null && filtered > 0) {
+				cache.record(element.getApiComponent(), new IReferenceDescriptor[0], filtered);
+			}
 			// This reporter does not create xml for components with no
 			// references
 			return;
 		}
-		// Use a hashset for counting to remove any duplicate references that
-		// the writer would remove
-		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
 			try {
 				IReferenceDescriptor descriptor = reference.getReferenceDescriptor();
-				descriptors.add(descriptor);
-
-				// Update counters
-				if (!writtenReferences.contains(descriptor)) {
-					referenceCount++;
-					if ((referenceInterface.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
-						illegalCount++;
-					}
-					// Though visibility is a bit flag, we want to match the xml
-					// output exactly, which separates into folders by
-					// visibility equality
-					if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
-						internalCount++;
-					}
-					writtenReferences.add(descriptor);
+				if (descriptor != null) {
+					descriptors.add(descriptor);
 				}
-
 			} catch (CoreException e) {
 				ApiPlugin.log(e.getStatus());
 			}
 		}
+		IReferenceDescriptor[] written = descriptors.toArray(new IReferenceDescriptor[descriptors.size()]);
+		if (cache != null) {
+			cache.record(element.getApiComponent(), written, filtered);
+		}
+		writeReferences(written);
+	}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+	/**
+	 * Reports references found by a previous scan, see {@link UseScanCache}.
+	 *
+	 * @param references the references to report
+	 * @param filteredCount the number of references that were filtered by the
+	 *            previous scan
+	 */
+	public void reportCachedResults(IReferenceDescriptor[] references, int filteredCount) {
+		cachedFilteredCount += filteredCount;
+		if (references.length > 0) {
+			writeReferences(references);
+		}
+	}
+
+	private void writeReferences(IReferenceDescriptor[] descriptors) {
+		// Use a hashset for counting to remove any duplicate references that
+		// the writer would remove
+		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
+		for (IReferenceDescriptor descriptor : descriptors) {
+			// Update counters
+			if (!writtenReferences.contains(descriptor)) {
+				referenceCount++;
+				if ((descriptor.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
+					illegalCount++;
+				}
+				// Though visibility is a bit flag, we want to match the xml
+				// output exactly, which separates into folders by
+				// visibility equality
+				if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
+					internalCount++;
+				}
+				writtenReferences.add(descriptor);
+			}
+		}
+		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
+		writer.writeReferences(descriptors);
 	}
 
 	/**
@@ -217,7 +259,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			root.setAttribute(IApiXmlConstants.ATTR_TOTAL, Integer.toString(referenceCount));
 			root.setAttribute(IApiXmlConstants.ATTR_COUNT_ILLEGAL, Integer.toString(illegalCount));
 			root.setAttribute(IApiXmlConstants.ATTR_COUNT_INTERNAL, Integer.toString(internalCount));
-			root.setAttribute(IApiXmlConstants.ATTR_COUNT_FILTERED, Integer.toString(AntFilterStore.filteredAPIProblems.size()));
+			root.setAttribute(IApiXmlConstants.ATTR_COUNT_FILTERED, Integer.toString(AntFilterStore.filteredAPIProblems.size() + cachedFilteredCount));
 
 			try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));) {
 				writer.write(Util.serializeDocument(doc));
@@ -29,6 +29,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
@@ -169,6 +173,12 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 */
 	private boolean processUnresolvedBundles = true;
 
+	/**
+	 * Number of API components analyzed concurrently. Set to <code>1</code> by
+	 * default.
+	 */
+	private int threads = 1;
+
 	private Summary[] createAllSummaries(Map<String, IApiProblem[]> allProblems) {
 		Set<Map.Entry<String, IApiProblem[]>> entrySet = allProblems.entrySet();
 		int size = entrySet.size();
@@ -381,6 +391,7 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 			IApiComponent[] apiComponents = currentBaseline.getApiComponents();
 			int length = apiComponents.length;
 			Set<String> visitedApiComponentNames = new HashSet<>();
+			List<IApiComponent> componentsToAnalyze = new ArrayList<>();
 			for (int i = 0; i < length; i++) {
 				IApiComponent apiComponent = apiComponents[i];
 				String name = apiComponent.getSymbolicName();
@@ -417,23 +428,16 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 				}
 
 				allApiBundles.add(name);
-				BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
-				try {
-					analyzer.setContinueOnResolverError(true);
-					analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
-					IApiProblem[] problems = analyzer.getProblems();
-					// remove duplicates
-					problems = removeDuplicates(problems);
-					if (problems.length != 0) {
-						allProblems.put(name, problems);
-					} else if (this.debug) {
-						System.out.println(name + " has no problems"); //$NON-NLS-1$
-					}
-				} catch (RuntimeException e) {
-					ApiPlugin.log(e);
-					throw e;
-				} finally {
-					analyzer.dispose();
+				componentsToAnalyze.add(apiComponent);
+			}
+			List<IApiProblem[]> componentProblems = analyzeComponents(componentsToAnalyze, referenceBaseline);
+			for (int i = 0; i < componentsToAnalyze.size(); i++) {
+				String name = componentsToAnalyze.get(i).getSymbolicName();
+				IApiProblem[] problems = componentProblems.get(i);
+				if (problems.length != 0) {
+					allProblems.put(name, problems);
+				} else if (this.debug) {
+					System.out.println(name + " has no problems"); //$NON-NLS-1$
 				}
 			}
 			if (debug) {
@@ -511,6 +515,65 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		}
 	}
 
+	/**
+	 * Analyzes the given components against the reference baseline, using up to
+	 * {@link #threads} workers with an analyzer each.
+	 *
+	 * @param components the components to analyze
+	 * @param referenceBaseline the baseline to compare the components to
+	 * @return the problems found, without duplicates, in the order of the
+	 *         given components
+	 */
+	private List<IApiProblem[]> analyzeComponents(List<IApiComponent> components, IApiBaseline referenceBaseline) {
+		List<IApiProblem[]> result = new ArrayList<>(components.size());
+		if (this.threads <= 1 || components.size() <= 1) {
+			for (IApiComponent component : components) {
+				result.add(analyzeComponent(component, referenceBaseline));
+			}
+			return result;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.threads, components.size()));
+		try {
+			List<Future<IApiProblem[]>> futures = new ArrayList<>(components.size());
+			for (IApiComponent component : components) {
+				futures.add(executor.submit(() -> analyzeComponent(component, referenceBaseline)));
+			}
+			for (Future<IApiProblem[]> future : futures) {
+				result.add(future.get());
+			}
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new BuildException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private IApiProblem[] analyzeComponent(IApiComponent apiComponent, IApiBaseline referenceBaseline) {
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		try {
+			analyzer.setContinueOnResolverError(true);
+			analyzer.analyzeComponent(null, getFilterStore(apiComponent.getSymbolicName()), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
+			// remove duplicates
+			return removeDuplicates(analyzer.getProblems());
+		} catch (RuntimeException e) {
+			ApiPlugin.log(e);
+			throw e;
+		} finally {
+			analyzer.dispose();
+		}
+	}
+
 	/**
 	 * Returns <code>true</code if the given component should be filtered from
 	 * results of this task. This may be because the name is a match or partial
@@ -907,4 +970,16 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of api components (bundles) analyzed concurrently. Each
+	 * component is analyzed by its own analyzer against the shared baselines,
+	 * the report is the same as for a sequential analysis. Values lower than
+	 * <code>1</code> are treated as <code>1</code>. Defaults to <code>1</code>
+	 *
+	 * @param threads the number of components to analyze at the same time
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
 }
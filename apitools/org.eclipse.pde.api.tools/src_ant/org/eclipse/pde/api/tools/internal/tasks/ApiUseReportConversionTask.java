@@ -35,6 +35,8 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 	private String xsltFileLocation = null;
 	private String[] filterPatterns = null;
 	private String[] toPatterns = null;
+	private int threads = 1;
+	private boolean incremental = false;
 
 	/**
 	 * Set the debug value.
@@ -122,6 +124,35 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 		this.xsltFileLocation = xsltFileLocation;
 	}
 
+	/**
+	 * Set the number of referenced components (bundles) whose pages are
+	 * written concurrently. The report is the same as for a sequential
+	 * conversion. Values lower than <code>1</code> are treated as
+	 * <code>1</code>. Defaults to <code>1</code>
+	 *
+	 * @param threads the number of components to convert at the same time
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Set whether the html location is kept and only the pages of the
+	 * referenced components whose xml files changed since the previous
+	 * conversion to the same location are written again.
+	 * <p>
+	 * The possible values are: <code>true</code>, <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>false</code>.
+	 * </p>
+	 *
+	 * @param incremental the given incremental value
+	 */
+	public void setIncremental(String incremental) {
+		this.incremental = Boolean.toString(true).equals(incremental);
+	}
+
 	@Override
 	public void execute() throws BuildException {
 		if (this.debug) {
@@ -134,8 +165,12 @@ public final class ApiUseReportConversionTask extends CommonUtilsTask {
 			}
 		}
 		try {
-			Util.delete(new File(this.htmlReportsLocation));
+			if (!this.incremental) {
+				Util.delete(new File(this.htmlReportsLocation));
+			}
 			UseReportConverter converter = new UseReportConverter(this.htmlReportsLocation, this.xmlReportsLocation, this.toPatterns, this.filterPatterns);
+			converter.setThreads(this.threads);
+			converter.setIncremental(this.incremental);
 			ApiPlugin.DEBUG_USE_REPORT_CONVERTER = this.debug;
 			converter.convert(this.xsltFileLocation, null);
 			File index = converter.getReportIndex();
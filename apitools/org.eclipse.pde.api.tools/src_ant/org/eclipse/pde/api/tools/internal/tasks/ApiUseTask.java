@@ -18,8 +18,10 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.DateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
@@ -33,10 +35,10 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
-import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
+import org.eclipse.pde.api.tools.internal.search.UseScanCache;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
@@ -118,6 +120,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Directory of the references cached between scans or <code>null</code>
+	 */
+	private String cacheLocation = null;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -266,6 +273,27 @@ public final class ApiUseTask extends CommonUtilsTask {
 		internalPatterns = parsePatterns(patterns);
 	}
 
+	/**
+	 * Set the directory to cache the references found for each scanned
+	 * component in.
+	 *
+	 * <p>
+	 * A component is only scanned again if it, one of its prerequisites or the
+	 * settings of the scan changed since its references were cached. The
+	 * report has the same content as without a cache. By default, no cache is
+	 * used.
+	 * </p>
+	 * <p>
+	 * The location is set using an absolute path. It must not be inside the
+	 * report location, which is cleaned before each scan.
+	 * </p>
+	 *
+	 * @param cacheLocation the directory of the cache
+	 */
+	public void setCacheLocation(String cacheLocation) {
+		this.cacheLocation = cacheLocation;
+	}
+
 	/**
 	 * Sets any archive name patterns to not scan during the analysis.
 	 *
@@ -308,12 +336,18 @@ public final class ApiUseTask extends CommonUtilsTask {
 		cleanReportLocation();
 		UseMetadata data = new UseMetadata(getSearchFlags(), this.scopepattern, this.referencepattern, this.currentBaselineLocation, this.reportLocation, this.apiPatterns, this.internalPatterns, this.archivePatterns, DateFormat.getDateTimeInstance().format(Calendar.getInstance().getTime()), getDescription());
 		IApiBaseline baseline = getBaseline(CURRENT_BASELINE_NAME, this.currentBaselineLocation);
-		IApiSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		XmlSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
 
 		try {
 			Set<String> ids = new HashSet<>();
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
+			UseScanCache cache = null;
+			if (this.cacheLocation != null) {
+				cache = new UseScanCache(new File(this.cacheLocation), getCacheSettings(), filters, ids);
+				reportCachedComponents(cache, scope, reporter);
+				reporter.setUseScanCache(cache);
+			}
 			ApiSearchEngine engine = new ApiSearchEngine();
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
@@ -333,6 +367,9 @@ public final class ApiUseTask extends CommonUtilsTask {
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
 			engine.search(baseline, requestor, reporter, null);
+			if (cache != null) {
+				cache.save();
+			}
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -372,6 +409,53 @@ public final class ApiUseTask extends CommonUtilsTask {
 		return true;
 	}
 
+	/**
+	 * Reports the cached references of the components of the scope that did
+	 * not change and removes them from the scope. The references of the other
+	 * components are recorded in the cache while they are scanned.
+	 *
+	 * @param cache the cache of the scan
+	 * @param scope the components to scan
+	 * @param reporter the reporter of the scan
+	 */
+	private void reportCachedComponents(UseScanCache cache, Set<IApiComponent> scope, XmlSearchReporter reporter) {
+		long time = 0;
+		if (this.debug) {
+			time = System.currentTimeMillis();
+			System.out.println("Reporting cached references..."); //$NON-NLS-1$
+		}
+		int cached = 0;
+		for (Iterator<IApiComponent> iterator = scope.iterator(); iterator.hasNext();) {
+			IApiComponent component = iterator.next();
+			if (cache.reportCached(component, reporter)) {
+				iterator.remove();
+				cached++;
+			} else {
+				cache.startRecording(component);
+			}
+		}
+		if (this.debug) {
+			System.out.println("Reused the references of " + cached + " components, " + scope.size() + " components to scan, done in: " + (System.currentTimeMillis() - time) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * Returns the settings of this task that change the references reported
+	 * for a component, see {@link UseScanCache}
+	 *
+	 * @return the settings
+	 */
+	private String getCacheSettings() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(getSearchFlags()).append('|');
+		buffer.append(this.eeFileLocation).append('|');
+		buffer.append(this.referencepattern).append('|');
+		buffer.append(Arrays.toString(this.apiPatterns)).append('|');
+		buffer.append(Arrays.toString(this.internalPatterns)).append('|');
+		buffer.append(Arrays.toString(this.archivePatterns));
+		return buffer.toString();
+	}
+
 	/**
 	 * Collects the scope elements and reference ids in one pass
 	 *
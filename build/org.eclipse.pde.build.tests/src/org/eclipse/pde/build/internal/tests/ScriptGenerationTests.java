@@ -2406,4 +2406,35 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	// the ids of the parsed features are kept in the build directory until their feature.xml changes
+	@Test
+	public void testFeatureIndex() throws Exception {
+		IFolder buildFolder = newTest("featureIndex");
+
+		Utils.generateBundle(Utils.createFolder(buildFolder, "plugins/a"), "a");
+		Utils.generateFeature(buildFolder, "f1", null, new String[] { "a" });
+		Utils.generateFeature(buildFolder, "f2", null, null);
+		// a feature that cannot be parsed does not fail the lookup of the others
+		Utils.writeBuffer(buildFolder.getFile("features/broken/feature.xml"), new StringBuffer("<feature"));
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f1");
+		properties.put("baseLocation", " ");
+		generateScripts(buildFolder, properties);
+
+		IFile indexFile = buildFolder.getFile(IPDEBuildConstants.DEFAULT_FEATURE_INDEX_FILENAME_DESCRIPTOR);
+		assertResourceFile(indexFile);
+		Properties entries = Utils.loadProperties(indexFile);
+		File featureXML = null;
+		for (String key : entries.stringPropertyNames()) {
+			if (entries.getProperty(key).endsWith(",f2"))
+				featureXML = new File(key);
+		}
+		assertNotNull("the feature f2 should be indexed", featureXML);
+
+		File file = indexFile.getLocation().toFile();
+		assertEquals("f2", new BuildTimeFeatureIndex(file).getFeatureId(featureXML));
+		assertTrue(featureXML.setLastModified(featureXML.lastModified() + 2000));
+		assertNull("a changed feature.xml should not be trusted", new BuildTimeFeatureIndex(file).getFeatureId(featureXML));
+	}
 }
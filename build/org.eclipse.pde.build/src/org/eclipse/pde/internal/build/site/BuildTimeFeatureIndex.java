@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.*;
+import java.util.Properties;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+
+/**
+ * Index of the feature ids found in the feature.xml files of a build. Each
+ * entry is keyed by the absolute path of the feature.xml and remembers the
+ * time stamp of the file at the moment it was parsed, so an entry is only
+ * trusted as long as the file did not change.
+ * <p>
+ * The index is persisted in the build directory between builds. It allows the
+ * {@link BuildTimeSite} to only parse the features that can match a lookup.
+ * </p>
+ */
+public class BuildTimeFeatureIndex implements IPDEBuildConstants {
+	private static final char SEPARATOR = ',';
+
+	private final File indexFile;
+	private final Properties entries = new Properties();
+	private boolean dirty = false;
+
+	/**
+	 * @param indexFile the file backing this index, may be <code>null</code>
+	 * in which case the index is not persisted
+	 */
+	public BuildTimeFeatureIndex(File indexFile) {
+		this.indexFile = indexFile;
+		if (indexFile != null && indexFile.exists()) {
+			try (InputStream input = new BufferedInputStream(new FileInputStream(indexFile))) {
+				entries.load(input);
+			} catch (IOException e) {
+				//Ignore, the index will be rebuilt
+				entries.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns the id of the feature described by the given feature.xml, or
+	 * <code>null</code> if the file is not indexed or changed since it was indexed.
+	 */
+	public String getFeatureId(File featureXML) {
+		String value = entries.getProperty(featureXML.getAbsolutePath());
+		if (value == null)
+			return null;
+		int idx = value.indexOf(SEPARATOR);
+		if (idx == -1)
+			return null;
+		try {
+			if (Long.parseLong(value.substring(0, idx)) != featureXML.lastModified())
+				return null;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		return value.substring(idx + 1);
+	}
+
+	public void addFeature(File featureXML, String featureId) {
+		String value = Long.toString(featureXML.lastModified()) + SEPARATOR + featureId;
+		Object previous = entries.put(featureXML.getAbsolutePath(), value);
+		if (!value.equals(previous))
+			dirty = true;
+	}
+
+	public void save() {
+		if (!dirty || indexFile == null)
+			return;
+		try (OutputStream output = new BufferedOutputStream(new FileOutputStream(indexFile))) {
+			entries.store(output, null);
+			dirty = false;
+		} catch (IOException e) {
+			//Ignore, the index will be rebuilt next time
+		}
+	}
+}
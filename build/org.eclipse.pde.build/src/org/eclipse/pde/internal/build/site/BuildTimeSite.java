@@ -17,6 +17,7 @@ import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
+import java.util.stream.IntStream;
 import org.eclipse.core.runtime.*;
 import org.eclipse.equinox.p2.publisher.eclipse.Feature;
 import org.eclipse.equinox.p2.publisher.eclipse.FeatureEntry;
@@ -37,6 +38,9 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 	private final BuildTimeFeatureFactory factory = new BuildTimeFeatureFactory();
 	private final Map<String, Set<BuildTimeFeature>> featureCache = new HashMap<>();
 	private final Map<URL, BuildTimeFeature> featureURLCache = new HashMap<>();
+	// features that failed to parse, they are reported once and not parsed again
+	private final Set<URL> failedFeatureURLs = new HashSet<>();
+	private BuildTimeFeatureIndex featureIndex;
 	private List<FeatureReference> featureReferences;
 	private BuildTimeSiteContentProvider contentProvider;
 	private boolean featuresResolved = false;
@@ -274,7 +278,7 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 			range = VersionRange.emptyRange;
 
 		if (!featuresResolved)
-			resolveFeatureReferences();
+			resolveFeatureReferences(featureId);
 
 		if (featureCache.containsKey(featureId)) {
 			//Set is ordered highest version to lowest, return the first that matches the range
@@ -299,20 +303,85 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		return null;
 	}
 
-	private void resolveFeatureReferences() {
-		FeatureReference[] features = getFeatureReferences();
-		for (FeatureReference feature2 : features) {
+	/**
+	 * Parses the features referenced by this site that have not been parsed yet.
+	 * When an id is given, the features known by the feature index to have a
+	 * different id are left untouched. The remaining features are parsed
+	 * concurrently and then added to the caches in their reference order.
+	 *
+	 * @param featureId the id of the feature being looked up, or <code>null</code> to parse all the features
+	 */
+	private void resolveFeatureReferences(String featureId) {
+		BuildTimeFeatureIndex index = getFeatureIndex();
+		List<FeatureReference> toParse = new ArrayList<>();
+		List<File> toParseFiles = new ArrayList<>();
+		boolean skipped = false;
+		for (FeatureReference reference : getFeatureReferences()) {
+			URL url = reference.getURL();
+			if (url == null || featureURLCache.containsKey(url) || failedFeatureURLs.contains(url))
+				continue;
+			File featureXML = getFeatureXML(url);
+			if (featureId != null && featureXML != null) {
+				String indexedId = index.getFeatureId(featureXML);
+				if (indexedId != null && !indexedId.equals(featureId)) {
+					skipped = true;
+					continue;
+				}
+			}
+			toParse.add(reference);
+			toParseFiles.add(featureXML);
+		}
+
+		//make sure the lazily initialized state shared by the parsers is set up before going parallel
+		getFeatureVersions();
+		BuildTimeFeature[] parsed = new BuildTimeFeature[toParse.size()];
+		CoreException[] failures = new CoreException[toParse.size()];
+		IntStream.range(0, parsed.length).parallel().forEach(i -> {
 			try {
-				//getting the feature for the first time will result in it being added to featureCache
-				feature2.getFeature();
+				parsed[i] = factory.createFeature(toParse.get(i).getURL(), this);
 			} catch (CoreException e) {
+				failures[i] = e;
+			}
+		});
+
+		for (int i = 0; i < parsed.length; i++) {
+			FeatureReference reference = toParse.get(i);
+			if (failures[i] != null) {
 				// just log the exception, but do not re-throw it - let other features to be resolved 
-				String message = NLS.bind(Messages.exception_featureParse, feature2.getURL());
-				IStatus status = new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_FEATURE_MISSING, message, e);
+				String message = NLS.bind(Messages.exception_featureParse, reference.getURL());
+				IStatus status = new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_FEATURE_MISSING, message, failures[i]);
 				BundleHelper.getDefault().getLog().log(status);
+				failedFeatureURLs.add(reference.getURL());
+				continue;
 			}
+			addFeature(reference.getURL(), parsed[i]);
+			if (toParseFiles.get(i) != null)
+				index.addFeature(toParseFiles.get(i), parsed[i].getId());
+		}
+		index.save();
+		featuresResolved = !skipped;
+	}
+
+	private BuildTimeFeatureIndex getFeatureIndex() {
+		if (featureIndex == null) {
+			String workingDirectory = AbstractScriptGenerator.getWorkingDirectory();
+			File indexFile = null;
+			if (workingDirectory != null && new File(workingDirectory).isDirectory())
+				indexFile = new File(workingDirectory, DEFAULT_FEATURE_INDEX_FILENAME_DESCRIPTOR);
+			featureIndex = new BuildTimeFeatureIndex(indexFile);
+		}
+		return featureIndex;
+	}
+
+	//Return the feature.xml file corresponding to a feature reference url, or null if it is not a local file
+	private static File getFeatureXML(URL url) {
+		if (!"file".equals(url.getProtocol())) //$NON-NLS-1$
+			return null;
+		try {
+			return new File(new URL(url, BuildTimeFeature.FEATURE_XML).getFile());
+		} catch (MalformedURLException e) {
+			return null;
 		}
-		featuresResolved = true;
 	}
 
 	public void addFeatureReferenceModel(File featureXML) {
@@ -447,6 +516,11 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 			return feature;
 
 		feature = factory.createFeature(url, this);
+		addFeature(url, feature);
+		return feature;
+	}
+
+	private void addFeature(URL url, BuildTimeFeature feature) {
 		feature.setFeatureContentProvider(getSiteContentProvider());
 		featureURLCache.put(url, feature);
 
@@ -458,8 +532,6 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 			set.add(feature);
 			featureCache.put(feature.getId(), set);
 		}
-
-		return feature;
 	}
 
 	public BuildTimeSiteContentProvider getSiteContentProvider() {
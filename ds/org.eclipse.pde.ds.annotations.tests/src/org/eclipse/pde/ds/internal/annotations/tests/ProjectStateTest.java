@@ -0,0 +1,95 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationVersion;
+import org.eclipse.pde.ds.internal.annotations.ProjectState;
+import org.eclipse.pde.ds.internal.annotations.ValidationErrorLevel;
+import org.junit.Test;
+
+public class ProjectStateTest {
+
+	@Test
+	public void emptyStateRoundTrip() throws Exception {
+		ProjectState state = new ProjectState();
+		assertEquals(state, roundTrip(state));
+	}
+
+	@Test
+	public void stateRoundTrip() throws Exception {
+		ProjectState state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_2);
+		state.setErrorLevel(ValidationErrorLevel.warning);
+
+		HashMap<String, String> dsKeys = new HashMap<>();
+		dsKeys.put("test.Component1", "OSGI-INF/test.Component1.xml");
+		dsKeys.put("test.Component1.Inner", "OSGI-INF/test.Component1.Inner.xml");
+		state.updateMappings("test/Component1.java", dsKeys);
+
+		dsKeys = new HashMap<>();
+		dsKeys.put("test.Component2", "OSGI-INF/test.Component2.xml");
+		state.updateMappings("test/Component2.java", dsKeys);
+
+		ProjectState read = roundTrip(state);
+		assertEquals(state, read);
+		assertEquals(state.getModelFiles("test/Component1.java"), read.getModelFiles("test/Component1.java"));
+		assertEquals("OSGI-INF/test.Component2.xml", read.getModelFile("test.Component2"));
+	}
+
+	@Test
+	public void legacyStateMigration() throws Exception {
+		ProjectState state = createState();
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(buf)) {
+			out.writeObject(state);
+		}
+
+		ProjectState read = ProjectState.load(new ByteArrayInputStream(buf.toByteArray()));
+		assertEquals(state, read);
+		assertEquals(state, ProjectState.load(new ByteArrayInputStream(write(read))));
+	}
+
+	@Test
+	public void outdatedBinaryState() throws Exception {
+		byte[] bytes = write(createState());
+		// the binary version follows the magic number
+		bytes[7]++;
+		assertNull(ProjectState.load(new ByteArrayInputStream(bytes)));
+	}
+
+	private ProjectState createState() {
+		ProjectState state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_3);
+		state.setMissingUnbindMethodLevel(ValidationErrorLevel.ignore);
+
+		HashMap<String, String> dsKeys = new HashMap<>();
+		dsKeys.put("test.Component", "OSGI-INF/test.Component.xml");
+		state.updateMappings("test/Component.java", dsKeys);
+		return state;
+	}
+
+	private byte[] write(ProjectState state) throws Exception {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(buf)) {
+			state.write(out);
+		}
+
+		return buf.toByteArray();
+	}
+
+	private ProjectState roundTrip(ProjectState state) throws Exception {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(write(state)))) {
+			return ProjectState.read(in);
+		}
+	}
+}
@@ -13,11 +13,21 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -27,25 +37,46 @@ import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.link.LinkedModeModel;
+import org.eclipse.pde.internal.ds.core.text.DSModel;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 
+@SuppressWarnings("restriction")
 public class AnnotationProcessor extends ASTRequestor {
 
 	private static final String DS_BUILDER = "org.eclipse.pde.ds.core.builder"; //$NON-NLS-1$
 
 	static final Debug debug = Debug.getDebug("ds-annotation-builder/processor"); //$NON-NLS-1$
 
+	/*
+	 * The XML of the changed component models is generated concurrently. To
+	 * generate it one model after the other, specify VM property:
+	 * {@code -Dorg.eclipse.pde.ds.annotations.serialGeneration=true}
+	 */
+	private static final boolean SERIAL_GENERATION = Boolean.getBoolean("org.eclipse.pde.ds.annotations.serialGeneration"); //$NON-NLS-1$
+
 	private final ProjectContext context;
 
 	private final Map<ICompilationUnit, BuildContext> fileMap;
 
 	private boolean hasBuilder;
 
+	private final Map<IFile, GeneratedModel> models = new LinkedHashMap<>();
+
 	public AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap) {
 		this.context = context;
 		this.fileMap = fileMap;
@@ -148,4 +179,137 @@ public class AnnotationProcessor extends ASTRequestor {
 			Activator.log(e);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Adds a changed component model to save with {@link #writeModels()}. The
+	 * processor disposes of the model and disconnects its file buffer once the
+	 * model is saved.
+	 */
+	void addModel(IFile file, ITextFileBuffer buffer, DSModel model) {
+		models.put(file, new GeneratedModel(file, buffer, model));
+	}
+
+	boolean hasModel(IFile file) {
+		return models.containsKey(file);
+	}
+
+	/**
+	 * Generates the XML of the added models and saves them. The models only
+	 * serialize their own element tree, so the XML is generated on worker
+	 * threads, while the documents are edited and the files saved on the
+	 * calling thread.
+	 */
+	void writeModels() {
+		if (models.isEmpty()) {
+			return;
+		}
+
+		List<GeneratedModel> pending = new ArrayList<>(models.values());
+		models.clear();
+
+		List<CompletableFuture<String>> contents = new ArrayList<>(pending.size());
+		for (GeneratedModel generated : pending) {
+			if (SERIAL_GENERATION || pending.size() == 1) {
+				contents.add(null);
+			} else {
+				contents.add(CompletableFuture.supplyAsync(generated.model::getContents));
+			}
+		}
+
+		for (int i = 0; i < pending.size(); i++) {
+			GeneratedModel generated = pending.get(i);
+			try {
+				CompletableFuture<String> content = contents.get(i);
+				writeModel(generated, content == null ? generated.model.getContents() : content.join());
+			} catch (CompletionException e) {
+				Activator.log(e.getCause());
+			} catch (CoreException e) {
+				Activator.log(e);
+			} finally {
+				generated.dispose();
+			}
+		}
+	}
+
+	private void writeModel(GeneratedModel generated, String text) throws CoreException {
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Saving model: %s", generated.file.getFullPath())); //$NON-NLS-1$
+		}
+
+		ITextFileBuffer buffer = generated.buffer;
+		IDocument document = buffer.getDocument();
+		final TextEdit edit = new ReplaceEdit(0, document.getLength(), text);
+
+		if (buffer.isSynchronizationContextRequested()) {
+			final CoreException[] ex = new CoreException[1];
+			final CountDownLatch latch = new CountDownLatch(1);
+			FileBuffers.getTextFileBufferManager().execute(() -> {
+				try {
+					performEdit(document, edit);
+				} catch (CoreException e) {
+					ex[0] = e;
+				}
+
+				latch.countDown();
+			});
+
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				if (debug.isDebugging())
+					debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
+			}
+
+			if (ex[0] != null) {
+				throw ex[0];
+			}
+		} else {
+			performEdit(document, edit);
+		}
+
+		buffer.commit(null, true);
+	}
+
+	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
+		DocumentRewriteSession session = null;
+		try {
+			if (document instanceof IDocumentExtension4) {
+				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+			}
+
+			LinkedModeModel.closeAllModels(document);
+			edit.apply(document);
+		} catch (MalformedTreeException | BadLocationException e) {
+			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
+		} finally {
+			if (session != null) {
+				((IDocumentExtension4) document).stopRewriteSession(session);
+			}
+		}
+	}
+
+	private static class GeneratedModel {
+
+		final IFile file;
+
+		final ITextFileBuffer buffer;
+
+		final DSModel model;
+
+		GeneratedModel(IFile file, ITextFileBuffer buffer, DSModel model) {
+			this.file = file;
+			this.buffer = buffer;
+			this.model = model;
+		}
+
+		void dispose() {
+			model.dispose();
+			ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+			try {
+				bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
+			} catch (CoreException e) {
+				Activator.log(e);
+			}
+		}
+	}
+}
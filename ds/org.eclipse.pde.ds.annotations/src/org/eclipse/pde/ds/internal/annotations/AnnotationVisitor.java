@@ -34,7 +34,6 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.filebuffers.FileBuffers;
@@ -68,12 +67,7 @@ import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.DocumentRewriteSession;
-import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
-import org.eclipse.jface.text.IDocumentExtension4;
-import org.eclipse.jface.text.link.LinkedModeModel;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.ModelChangedEvent;
@@ -96,8 +90,6 @@ import org.eclipse.pde.internal.ds.core.IDSReference;
 import org.eclipse.pde.internal.ds.core.IDSService;
 import org.eclipse.pde.internal.ds.core.text.DSModel;
 import org.eclipse.pde.internal.ui.util.TextUtil;
-import org.eclipse.text.edits.MalformedTreeException;
-import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 import org.osgi.framework.BundleContext;
@@ -375,6 +367,12 @@ public class AnnotationVisitor extends ASTVisitor {
 			}
 		}
 
+		// a model generated into the same file is saved first, so that this one
+		// is loaded from its content
+		if (processor.hasModel(file)) {
+			processor.writeModels();
+		}
+
 		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
 		bufferManager.connect(filePath, LocationKind.IFILE, null);
 		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
@@ -391,98 +389,63 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
 		// thus we replace the entire content with one edit (if changed)
-		final IDocument fDoc = document;
-		dsModel.addModelChangedListener(new IModelTextChangeListener() {
-
-			private final IDocument document = fDoc;
+		ModelChangeListener listener = new ModelChangeListener(dsModel, document);
+		dsModel.addModelChangedListener(listener);
 
-			private boolean changed;
+		boolean pending = false;
+		try {
+			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
 
-			@Override
-			public void modelChanged(IModelChangedEvent event) {
-				changed = true;
+			// the processor generates the XML of the changed models and saves
+			// them once all compilation units of the project are visited
+			if (listener.isChanged()) {
+				processor.addModel(file, buffer, dsModel);
+				pending = true;
 			}
-
-			@Override
-			public TextEdit[] getTextOperations() {
-				if (!changed) {
-					return new TextEdit[0];
-				}
-
-				String text = dsModel.getContents();
-				ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
-				return new TextEdit[] { edit };
+		} finally {
+			if (!pending) {
+				dsModel.dispose();
+				bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
 			}
+		}
+	}
 
-			@Override
-			public String getReadableName(TextEdit edit) {
-				return null;
-			}
-		});
+	private static class ModelChangeListener implements IModelTextChangeListener {
 
-		try {
-			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+		private final DSModel model;
 
-			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
-			if (edits.length > 0) {
-				if (debug.isDebugging()) {
-					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
-				}
+		private final IDocument document;
 
-				final MultiTextEdit edit = new MultiTextEdit();
-				edit.addChildren(edits);
+		private boolean changed;
 
-				if (buffer.isSynchronizationContextRequested()) {
-					final IDocument doc = document;
-					final CoreException[] ex = new CoreException[1];
-					final CountDownLatch latch = new CountDownLatch(1);
-					bufferManager.execute(() -> {
-						try {
-							performEdit(doc, edit);
-						} catch (CoreException e) {
-							ex[0] = e;
-						}
-
-						latch.countDown();
-					});
-
-					try {
-						latch.await();
-					} catch (InterruptedException e) {
-						if (debug.isDebugging())
-							debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
-					}
+		ModelChangeListener(DSModel model, IDocument document) {
+			this.model = model;
+			this.document = document;
+		}
 
-					if (ex[0] != null) {
-						throw ex[0];
-					}
-				} else {
-					performEdit(document, edit);
-				}
+		boolean isChanged() {
+			return changed;
+		}
 
-				buffer.commit(null, true);
-			}
-		} finally {
-			dsModel.dispose();
-			bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
+		@Override
+		public void modelChanged(IModelChangedEvent event) {
+			changed = true;
 		}
-	}
 
-	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
-		DocumentRewriteSession session = null;
-		try {
-			if (document instanceof IDocumentExtension4) {
-				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+		@Override
+		public TextEdit[] getTextOperations() {
+			if (!changed) {
+				return new TextEdit[0];
 			}
 
-			LinkedModeModel.closeAllModels(document);
-			edit.apply(document);
-		} catch (MalformedTreeException | BadLocationException e) {
-			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
-		} finally {
-			if (session != null) {
-				((IDocumentExtension4) document).stopRewriteSession(session);
-			}
+			String text = model.getContents();
+			ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
+			return new TextEdit[] { edit };
+		}
+
+		@Override
+		public String getReadableName(TextEdit edit) {
+			return null;
 		}
 	}
 
@@ -15,12 +15,14 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.InputStream;
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -65,6 +67,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -72,6 +75,8 @@ import org.eclipse.pde.core.IBaseModel;
 import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.build.IBuildModel;
 import org.eclipse.pde.core.build.IBuildModelFactory;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
 import org.eclipse.pde.internal.core.ibundle.IBundleModel;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
@@ -95,6 +100,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	static final String ANNOTATIONS_PACKAGE = COMPONENT_ANNOTATION.substring(0, COMPONENT_ANNOTATION.lastIndexOf('.'));
 
+	private static final char[] COMPONENT_SIMPLE_NAME = COMPONENT_ANNOTATION.substring(COMPONENT_ANNOTATION.lastIndexOf('.') + 1).toCharArray();
+
 	private static final IPath COMPONENT_ANNOTATION_PATH = new Path(COMPONENT_ANNOTATION.replace('.',  '/'));
 
 	private static final Pattern ACCESS_RULE_PATTERN = Pattern.compile("(\\*\\*)|\\*|\\?"); //$NON-NLS-1$
@@ -241,21 +248,25 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			return null;
 		}
 
-		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
-			ProjectState state = (ProjectState) in.readObject();
+		ProjectState state;
+		try (InputStream in = new BufferedInputStream(new FileInputStream(stateFile))) {
+			state = ProjectState.load(in);
+		}
 
-			if (debug.isDebugging()) {
-				debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
-				for (String cuKey : state.getCompilationUnits())
-					debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
-			}
+		if (state == null) {
+			if (debug.isDebugging())
+				debug.trace(String.format("Outdated project state file: %s", stateFile)); //$NON-NLS-1$
 
-			return state;
-		} catch (ClassNotFoundException e) {
-			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
-			ex.initCause(e);
-			throw ex;
+			return null;
 		}
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
+			for (String cuKey : state.getCompilationUnits())
+				debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
+		}
+
+		return state;
 	}
 
 	@Override
@@ -395,8 +406,10 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				Activator.log(new MultiStatus(Activator.PLUGIN_ID, 0, deleteStatuses.toArray(new IStatus[deleteStatuses.size()]), "Error deleting generated files.", null)); //$NON-NLS-1$
 			}
 
-			if (!retained.isEmpty() || !abandoned.isEmpty()) {
+			if (!abandoned.isEmpty() || (!retained.isEmpty() && (projectContext.isChanged() || !isProjectUpToDate(project.getProject(), retained)))) {
 				updateProject(project.getProject(), retained, abandoned);
+			} else if (debug.isDebugging()) {
+				debug.trace(String.format("Manifest and build.properties of project %s are up to date.", project.getElementName())); //$NON-NLS-1$
 			}
 		}
 
@@ -436,9 +449,56 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 		}
 
-		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			out.writeObject(state);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(stateFile)))) {
+			state.write(out);
+		}
+	}
+
+	/**
+	 * Checks, using the shared workspace models, whether the manifest and
+	 * build.properties already reference all the given component descriptors.
+	 * This avoids opening both files for modification on every build when the
+	 * set of generated descriptors did not change.
+	 */
+	private boolean isProjectUpToDate(IProject project, Collection<String> retained) {
+		IPluginModelBase pluginModel = PluginRegistry.findModel(project);
+		if (!(pluginModel instanceof IBundlePluginModelBase)) {
+			return false;
+		}
+
+		IBundleModel bundleModel = ((IBundlePluginModelBase) pluginModel).getBundleModel();
+		if (bundleModel == null) {
+			return false;
+		}
+
+		LinkedHashSet<IPath> manifestEntries = new LinkedHashSet<>();
+		collectManifestEntries(bundleModel, manifestEntries);
+		for (String dsKey : retained) {
+			if (!isManifestEntryIncluded(manifestEntries, Path.fromPortableString(dsKey))) {
+				return false;
+			}
+		}
+
+		IBuildModel buildModel;
+		try {
+			buildModel = PluginRegistry.createBuildModel(pluginModel);
+		} catch (CoreException e) {
+			return false;
 		}
+
+		if (buildModel == null) {
+			return false;
+		}
+
+		LinkedHashSet<IPath> buildEntries = new LinkedHashSet<>();
+		collectBuildEntries(buildModel.getBuild().getEntry(IBuildEntry.BIN_INCLUDES), buildEntries);
+		for (String dsKey : retained) {
+			if (!isBuildEntryIncluded(buildEntries, Path.fromPortableString(dsKey))) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private void updateProject(IProject project, final Collection<String> retained, final Collection<String> abandoned) {
@@ -613,6 +673,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	public void processAnnotations(BuildContext[] files) {
 		// we need to process CUs in context of a project; separate them by project
 		HashMap<IJavaProject, Map<ICompilationUnit, BuildContext>> filesByProject = new HashMap<>();
+		int textSkipped = 0;
+		int modelSkipped = 0;
 		for (BuildContext file : files) {
 			if (debug.isDebugging()) {
 				debug.trace(String.format("Creating compilation unit from file %s.", file.getFile().getFullPath())); //$NON-NLS-1$
@@ -628,8 +690,16 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
+			// cheap textual check first; avoids opening the CU in the Java model
+			if (!mayContainComponent(file.getContents())) {
+				markAsAbandoned(cu);
+				textSkipped++;
+				continue;
+			}
+
 			if (canSkipFile(cu)) {
 				markAsAbandoned(cu);
+				modelSkipped++;
 				continue;
 			}
 
@@ -642,6 +712,11 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			map.put(cu, file);
 		}
 
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Skipped %d of %d compilation units (%d by content, %d by Java model); processing %d.", //$NON-NLS-1$
+					textSkipped + modelSkipped, files.length, textSkipped, modelSkipped, filesByProject.values().stream().mapToInt(Map::size).sum()));
+		}
+
 		// process all CUs in each project
 		for (Map.Entry<IJavaProject, Map<ICompilationUnit, BuildContext>> entry : filesByProject.entrySet()) {
 			if (debug.isDebugging()) {
@@ -652,6 +727,19 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Returns whether the given source may declare a component. Any declaration
+	 * of a component annotation, whether by simple or qualified name, contains
+	 * its simple name; sources that do not are skipped without parsing them.
+	 */
+	static boolean mayContainComponent(char[] contents) {
+		if (contents == null) {
+			return true;
+		}
+
+		return CharOperation.indexOf(COMPONENT_SIMPLE_NAME, contents, true) != -1;
+	}
+
 	public boolean canSkipFile(ICompilationUnit cu) {
 		IType primaryType = cu.findPrimaryType();
 		if (primaryType == null) {
@@ -712,7 +800,13 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
 
 		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+		AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap);
+		try {
+			parser.createASTs(cuArr, new String[0], processor, null);
+		} finally {
+			// the models are built from the ASTs above; their XML is generated and saved in one batch
+			processor.writeModels();
+		}
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -13,12 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.ListIterator;
 import java.util.Map;
 
@@ -31,6 +39,12 @@ public class ProjectState implements Serializable, Cloneable {
 	// current state file format version
 	public static final int FORMAT_VERSION = 1;
 
+	// marks a state file written by write(DataOutput) as opposed to Java serialization
+	static final int BINARY_MAGIC = 0x44535354;
+
+	// version of the binary encoding written by write(DataOutput)
+	static final int BINARY_VERSION = 2;
+
 	// package-prefixed CU name (w/out file extension) to plugin-root-relative (portable) paths of generated DS files (deprecated)
 	// note: we keep it non-null in case user downgrades to older plugin version where old logic depends on that
 	private /*final*/ Map<String, Collection<String>> mappings = new HashMap<>();
@@ -192,6 +206,197 @@ public class ProjectState implements Serializable, Cloneable {
 		return files;
 	}
 
+	/**
+	 * Writes this state in a compact binary form. All strings are interned in a
+	 * table written up front and referenced by index afterwards, since the same
+	 * type names and file paths occur in several of the maps.
+	 */
+	public void write(DataOutput out) throws IOException {
+		LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+		intern(strings, path);
+		intern(strings, name(specVersion));
+		intern(strings, name(errorLevel));
+		intern(strings, name(missingUnbindMethodLevel));
+		for (Map.Entry<String, Collection<String>> entry : mappings.entrySet()) {
+			intern(strings, entry.getKey());
+			entry.getValue().forEach(value -> intern(strings, value));
+		}
+
+		if (types != null) {
+			for (Map.Entry<String, Collection<String>> entry : types.entrySet()) {
+				intern(strings, entry.getKey());
+				entry.getValue().forEach(value -> intern(strings, value));
+			}
+		}
+
+		if (files != null) {
+			for (Map.Entry<String, String> entry : files.entrySet()) {
+				intern(strings, entry.getKey());
+				intern(strings, entry.getValue());
+			}
+		}
+
+		out.writeInt(BINARY_MAGIC);
+		out.writeInt(BINARY_VERSION);
+		out.writeInt(formatVersion);
+		out.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			out.writeUTF(string);
+		}
+
+		out.writeInt(index(strings, path));
+		out.writeInt(index(strings, name(specVersion)));
+		out.writeInt(index(strings, name(errorLevel)));
+		out.writeInt(index(strings, name(missingUnbindMethodLevel)));
+		writeMultiMap(out, strings, mappings);
+		writeMultiMap(out, strings, types);
+		if (files == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(files.size());
+			for (Map.Entry<String, String> entry : files.entrySet()) {
+				out.writeInt(index(strings, entry.getKey()));
+				out.writeInt(index(strings, entry.getValue()));
+			}
+		}
+	}
+
+	/**
+	 * Reads a state written by {@link #write(DataOutput)}. Returns
+	 * <code>null</code> for a state written with another version of the binary
+	 * encoding, which has to be rebuilt.
+	 */
+	public static ProjectState read(DataInput in) throws IOException {
+		if (in.readInt() != BINARY_MAGIC) {
+			throw new IOException("Not a binary project state."); //$NON-NLS-1$
+		}
+
+		if (in.readInt() != BINARY_VERSION) {
+			return null;
+		}
+
+		ProjectState state = new ProjectState();
+		state.formatVersion = in.readInt();
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+
+		state.path = string(strings, in.readInt());
+		state.specVersion = enumValue(DSAnnotationVersion.class, string(strings, in.readInt()));
+		state.errorLevel = enumValue(ValidationErrorLevel.class, string(strings, in.readInt()));
+		state.missingUnbindMethodLevel = enumValue(ValidationErrorLevel.class, string(strings, in.readInt()));
+		Map<String, Collection<String>> mappings = readMultiMap(in, strings);
+		state.mappings = mappings == null ? new HashMap<>() : mappings;
+		state.types = readMultiMap(in, strings);
+		int size = in.readInt();
+		if (size >= 0) {
+			state.files = new HashMap<>(size);
+			for (int i = 0; i < size; i++) {
+				state.files.put(string(strings, in.readInt()), string(strings, in.readInt()));
+			}
+		}
+
+		return state;
+	}
+
+	/**
+	 * Reads a state written by {@link #write(DataOutput)} or, to migrate it, a
+	 * state saved with Java serialization by older versions. Returns
+	 * <code>null</code> for a state that has to be rebuilt.
+	 */
+	public static ProjectState load(InputStream input) throws IOException {
+		DataInputStream in = new DataInputStream(input.markSupported() ? input : new BufferedInputStream(input));
+		in.mark(4);
+		int magic = in.readInt();
+		in.reset();
+		if (magic == BINARY_MAGIC) {
+			return read(in);
+		}
+
+		try {
+			return (ProjectState) new ObjectInputStream(in).readObject();
+		} catch (ClassNotFoundException e) {
+			throw new IOException("Unable to deserialize project state.", e); //$NON-NLS-1$
+		}
+	}
+
+	private static void intern(Map<String, Integer> strings, String value) {
+		if (value != null) {
+			strings.putIfAbsent(value, strings.size());
+		}
+	}
+
+	private static int index(Map<String, Integer> strings, String value) {
+		return value == null ? -1 : strings.get(value);
+	}
+
+	private static String string(String[] strings, int index) throws IOException {
+		if (index < 0) {
+			return null;
+		}
+
+		if (index >= strings.length) {
+			throw new IOException("Corrupt project state."); //$NON-NLS-1$
+		}
+
+		return strings[index];
+	}
+
+	private static String name(Enum<?> value) {
+		return value == null ? null : value.name();
+	}
+
+	private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+		if (name == null) {
+			return null;
+		}
+
+		try {
+			return Enum.valueOf(type, name);
+		} catch (IllegalArgumentException e) {
+			// a constant that no longer exists falls back to the default
+			return null;
+		}
+	}
+
+	private static void writeMultiMap(DataOutput out, Map<String, Integer> strings, Map<String, Collection<String>> map) throws IOException {
+		if (map == null) {
+			out.writeInt(-1);
+			return;
+		}
+
+		out.writeInt(map.size());
+		for (Map.Entry<String, Collection<String>> entry : map.entrySet()) {
+			out.writeInt(index(strings, entry.getKey()));
+			out.writeInt(entry.getValue().size());
+			for (String value : entry.getValue()) {
+				out.writeInt(index(strings, value));
+			}
+		}
+	}
+
+	private static Map<String, Collection<String>> readMultiMap(DataInput in, String[] strings) throws IOException {
+		int size = in.readInt();
+		if (size < 0) {
+			return null;
+		}
+
+		HashMap<String, Collection<String>> map = new HashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			String key = string(strings, in.readInt());
+			int count = in.readInt();
+			HashSet<String> values = new HashSet<>(count);
+			for (int j = 0; j < count; j++) {
+				values.add(string(strings, in.readInt()));
+			}
+
+			map.put(key, values);
+		}
+
+		return map;
+	}
+
 	@Override
 	public ProjectState clone() {
 		ProjectState clone;
@@ -17,6 +17,7 @@
 package org.eclipse.pde.internal.ds.core.builders;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
@@ -42,6 +43,9 @@ public class DSBuilder extends IncrementalProjectBuilder {
 	private static String PDE_NATURE = "org.eclipse.pde.PluginNature"; //$NON-NLS-1$
 	private static IProject[] EMPTY_LIST = new IProject[0];
 
+	// Java type lookups done while validating the descriptors of this build
+	private final Map<String, Boolean> typeCache = new HashMap<>();
+
 	class ResourceVisitor implements IResourceVisitor {
 		private IProgressMonitor monitor;
 
@@ -117,12 +121,16 @@ public class DSBuilder extends IncrementalProjectBuilder {
 		if (kind != FULL_BUILD)
 			delta = getDelta(getProject());
 
-		if (delta == null || kind == FULL_BUILD) {
-			// Full build
-			IProject project = getProject();
-			project.accept(new ResourceVisitor(monitor));
-		} else {
-			delta.accept(new DeltaVisitor(monitor));
+		try {
+			if (delta == null || kind == FULL_BUILD) {
+				// Full build
+				IProject project = getProject();
+				project.accept(new ResourceVisitor(monitor));
+			} else {
+				delta.accept(new DeltaVisitor(monitor));
+			}
+		} finally {
+			typeCache.clear();
 		}
 		return EMPTY_LIST;
 	}
@@ -153,7 +161,7 @@ public class DSBuilder extends IncrementalProjectBuilder {
 				.getFullPath().toString());
 		monitor.subTask(message);
 
-		DSErrorReporter reporter = new DSErrorReporter(file);
+		DSErrorReporter reporter = new DSErrorReporter(file, typeCache);
 		DefaultSAXParser.parse(file, reporter);
 		reporter.validateContent(monitor);
 		monitor.subTask(Messages.DSBuilder_updating);
@@ -16,7 +16,9 @@
 package org.eclipse.pde.internal.ds.core.builders;
 
 import java.lang.reflect.Constructor;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 import org.eclipse.core.resources.IFile;
@@ -51,8 +53,20 @@ public class DSErrorReporter extends XMLErrorReporter {
 	public static final int WARNING = 1;
 	public static final int IGNORE = 2;
 
+	private final Map<String, Boolean> fTypeCache;
+
 	public DSErrorReporter(IFile file) {
+		this(file, new HashMap<>());
+	}
+
+	/**
+	 * @param file the component description to validate
+	 * @param typeCache cache of the Java type lookups, shared by all the
+	 *            reporters of a project during a build
+	 */
+	public DSErrorReporter(IFile file, Map<String, Boolean> typeCache) {
 		super(file);
+		fTypeCache = typeCache;
 	}
 
 	@Override
@@ -472,7 +486,7 @@ public class DSErrorReporter extends XMLErrorReporter {
 		try {
 			if (fProject.hasNature(JavaCore.NATURE_ID)) {
 				IJavaProject jp = JavaCore.create(fProject);
-				if (!DSJavaHelper.isOnClasspath(fullyQualifiedName, (jp))) {
+				if (!DSJavaHelper.isOnClasspath(fullyQualifiedName, jp, fTypeCache)) {
 					reportJavaTypeNotFound(elementName, attrName,
 							fullyQualifiedName, index);
 				}
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ds.core.builders;
 
+import java.util.Map;
+
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
@@ -35,4 +37,15 @@ public class DSJavaHelper {
 		return false;
 	}
 
+	/**
+	 * Same as {@link #isOnClasspath(String, IJavaProject)}, but remembers the
+	 * result of each lookup in the given cache. The cache must only be shared
+	 * by lookups against the same project during a single build.
+	 */
+	public static boolean isOnClasspath(String fullyQualifiedName,
+			IJavaProject project, Map<String, Boolean> cache) {
+		return cache.computeIfAbsent(fullyQualifiedName, name -> Boolean.valueOf(isOnClasspath(name, project)))
+				.booleanValue();
+	}
+
 }
@@ -15,16 +15,30 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ListenerList;
@@ -36,6 +50,7 @@ import org.eclipse.pde.core.IModelProviderListener;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.core.feature.ExternalFeatureModel;
+import org.eclipse.pde.internal.core.feature.Feature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.target.Messages;
 
@@ -70,10 +85,51 @@ public class ExternalFeatureModelManager {
 		}
 	}
 
+	/*
+	 * The models parsed from the feature.xml files of the target are persisted
+	 * between sessions, unless this property is set
+	 */
+	private static final boolean NO_PERSISTED_MODELS = Boolean.getBoolean("org.eclipse.pde.noFeatureModelCache"); //$NON-NLS-1$
+
+	private static final String PERSISTED_MODELS_FILE = ".feature_models"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * A feature model together with the state of the feature.xml it was parsed
+	 * from
+	 */
+	private static final class CachedFeatureModel {
+		final long lastModified;
+		final long length;
+		final IFeatureModel model;
+
+		CachedFeatureModel(File manifest, IFeatureModel model) {
+			this(manifest.lastModified(), manifest.length(), model);
+		}
+
+		CachedFeatureModel(long lastModified, long length, IFeatureModel model) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.model = model;
+		}
+
+		boolean isUpToDate(File manifest) {
+			return lastModified == manifest.lastModified() && length == manifest.length();
+		}
+	}
+
 	private final ListenerList<IModelProviderListener> fListeners = new ListenerList<>();
 
 	private IFeatureModel[] fModels;
 
+	/**
+	 * Models parsed from the feature.xml files of the current target, keyed by
+	 * file. Models of unchanged files are reused when the target is reloaded.
+	 * <code>null</code> until the models persisted by the previous session are
+	 * read.
+	 */
+	private Map<File, CachedFeatureModel> fModelCache;
+
 	public void addModelProviderListener(IModelProviderListener listener) {
 		fListeners.add(listener);
 	}
@@ -131,20 +187,141 @@ public class ExternalFeatureModelManager {
 			return new IFeatureModel[0];
 		}
 
-		List<IFeatureModel> result = new ArrayList<>();
 		TargetFeature[] features = target.getAllFeatures();
-		if (features != null) {
-			for (TargetFeature feature : features) {
-				IFeatureModel model = getFreshFeatureModel(feature);
-				if (model.isLoaded()) {
-					result.add(model);
-				}
+		if (features == null) {
+			return new IFeatureModel[0];
+		}
+		return getModels(features);
+	}
+
+	/**
+	 * Loads the feature models of the given target features and notifies
+	 * listeners of the models that were added and removed. Models of
+	 * feature.xml files that did not change since they were last parsed are
+	 * reused.
+	 *
+	 * @param features
+	 *            the features of the target
+	 */
+	public void initialize(TargetFeature[] features) {
+		IFeatureModel[] oldModels = null;
+		synchronized (this) {
+			oldModels = fModels != null ? fModels : new IFeatureModel[0];
+			fModels = getModels(features);
+		}
+		notifyListeners(oldModels, fModels);
+	}
+
+	private IFeatureModel[] getModels(TargetFeature[] features) {
+		Map<File, CachedFeatureModel> oldCache = fModelCache;
+		if (oldCache == null) {
+			oldCache = readPersistedModels();
+		}
+		Map<File, CachedFeatureModel> newCache = new ConcurrentHashMap<>();
+		// parse the feature.xml files concurrently but keep the order of the target
+		IFeatureModel[] models = new IFeatureModel[features.length];
+		Map<File, CachedFeatureModel> cache = oldCache;
+		IntStream.range(0, features.length).parallel()
+				.forEach(i -> models[i] = getFreshFeatureModel(features[i], cache, newCache));
+		fModelCache = newCache;
+		if (!newCache.equals(oldCache)) {
+			persistModels(newCache);
+		}
+		List<IFeatureModel> result = new ArrayList<>();
+		for (IFeatureModel model : models) {
+			if (model.isLoaded()) {
+				result.add(model);
 			}
 		}
 		return result.toArray(new IFeatureModel[result.size()]);
 	}
 
+	/**
+	 * Returns the models persisted by {@link #persistModels(Map)}, or an empty
+	 * map if there are none or they cannot be read
+	 */
+	private static Map<File, CachedFeatureModel> readPersistedModels() {
+		Map<File, CachedFeatureModel> cache = new ConcurrentHashMap<>();
+		File file = getPersistedModelsFile();
+		if (file == null || !file.isFile()) {
+			return cache;
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			// only restore the serializable feature objects
+			in.setObjectInputFilter(info -> {
+				Class<?> type = info.serialClass();
+				if (type == null || type.isArray() || type.getName().startsWith("java.") //$NON-NLS-1$
+						|| type.getName().startsWith(Feature.class.getPackageName() + '.')) {
+					return ObjectInputFilter.Status.UNDECIDED;
+				}
+				return ObjectInputFilter.Status.REJECTED;
+			});
+			if (in.readInt() != FORMAT_VERSION) {
+				return cache;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				File manifest = new File(in.readUTF());
+				long lastModified = in.readLong();
+				long length = in.readLong();
+				Feature feature = (Feature) in.readObject();
+				ExternalFeatureModel model = new ExternalFeatureModel();
+				model.setInstallLocation(manifest.getParent());
+				model.load(feature);
+				cache.put(manifest, new CachedFeatureModel(lastModified, length, model));
+			}
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			// parse all feature.xml files again
+			cache.clear();
+		}
+		return cache;
+	}
+
+	/**
+	 * Persists the features of the given models under the PDE state location,
+	 * with the state of the feature.xml files they were parsed from
+	 */
+	private static void persistModels(Map<File, CachedFeatureModel> cache) {
+		File file = getPersistedModelsFile();
+		if (file == null) {
+			return;
+		}
+		File temp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(cache.size());
+				for (Entry<File, CachedFeatureModel> entry : cache.entrySet()) {
+					out.writeUTF(entry.getKey().getAbsolutePath());
+					out.writeLong(entry.getValue().lastModified);
+					out.writeLong(entry.getValue().length);
+					out.writeObject(entry.getValue().model.getFeature());
+				}
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			// the models are parsed again in the next session
+			temp.delete();
+		}
+	}
+
+	private static File getPersistedModelsFile() {
+		if (NO_PERSISTED_MODELS) {
+			return null;
+		}
+		PDECore core = PDECore.getDefault();
+		return core != null ? core.getStateLocation().append(PERSISTED_MODELS_FILE).toFile() : null;
+	}
+
 	private void notifyListeners(IFeatureModel[] oldModels, IFeatureModel[] newFeatureModels) {
+		// models reused from the cache are neither removed nor added
+		Set<IFeatureModel> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+		kept.addAll(Arrays.asList(oldModels));
+		kept.retainAll(Arrays.asList(newFeatureModels));
+		if (!kept.isEmpty()) {
+			oldModels = Arrays.stream(oldModels).filter(m -> !kept.contains(m)).toArray(IFeatureModel[]::new);
+			newFeatureModels = Arrays.stream(newFeatureModels).filter(m -> !kept.contains(m)).toArray(IFeatureModel[]::new);
+		}
 		if (oldModels.length > 0 || newFeatureModels.length > 0) {
 			int type = 0;
 			if (oldModels.length > 0) {
@@ -169,19 +346,34 @@ public class ExternalFeatureModelManager {
 
 	/**
 	 * Loads the model freshly from the location if it is is a valid file and
-	 * can be read, otherwise returns the internal model
+	 * can be read, otherwise returns the internal model. A model parsed by a
+	 * previous load is reused if the file did not change since.
 	 *
 	 * @param feature
 	 *            the feature to load the model for
+	 * @param oldCache
+	 *            models parsed by the previous load
+	 * @param newCache
+	 *            receives the models parsed from files
 	 * @return the (possibly refreshed) model for this feature
 	 */
-	private static IFeatureModel getFreshFeatureModel(TargetFeature feature) {
+	private static IFeatureModel getFreshFeatureModel(TargetFeature feature, Map<File, CachedFeatureModel> oldCache,
+			Map<File, CachedFeatureModel> newCache) {
 		String location = feature.getLocation();
 		if (location != null) {
 			File manifest = new File(location, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
 			if (manifest.exists() && manifest.isFile()) {
+				CachedFeatureModel cached = oldCache.get(manifest);
+				if (cached != null && cached.isUpToDate(manifest)) {
+					newCache.put(manifest, cached);
+					return cached.model;
+				}
 				try {
-					return createModel(manifest);
+					IFeatureModel model = createModel(manifest);
+					if (model.isLoaded()) {
+						newCache.put(manifest, new CachedFeatureModel(manifest, model));
+					}
+					return model;
 				} catch (CoreException e) {
 					PDECore.log(e);
 				}
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
@@ -68,6 +70,16 @@ public class MinimalState {
 
 	protected String fSystemBundle = IPDEBuildConstants.BUNDLE_OSGI;
 
+	// exported packages and bundles by name, valid for the state time stamps
+	// below
+	private Map<String, ExportPackageDescription> fExportedPackages;
+
+	private long fExportedPackagesTimeStamp;
+
+	private Map<String, BundleDescription[]> fBundlesByName;
+
+	private long fBundlesByNameTimeStamp;
+
 	static {
 		DIR = PDECore.getDefault().getStateLocation().toOSString();
 		stateObjectFactory = Platform.getPlatformAdmin().getFactory();
@@ -229,8 +241,10 @@ public class MinimalState {
 	 */
 	public StateDelta resolveState(String[] symbolicNames) {
 		if (initializePlatformProperties()) {
+			invalidateIndexes();
 			return fState.resolve(false);
 		}
+		invalidateIndexes();
 		List<BundleDescription> bundles = new ArrayList<>();
 		for (String symbolicName : symbolicNames) {
 			BundleDescription[] descriptions = fState.getBundles(symbolicName);
@@ -241,9 +255,79 @@ public class MinimalState {
 
 	private synchronized StateDelta internalResolveState(boolean incremental) {
 		boolean fullBuildRequired = initializePlatformProperties();
+		invalidateIndexes();
 		return fState.resolve(incremental && !fullBuildRequired);
 	}
 
+	/**
+	 * Returns the packages exported by the bundles of this state, indexed by
+	 * package name. When several bundles export the same package, an export
+	 * from a resolved bundle is preferred.
+	 * <p>
+	 * The index is shared by all callers and only recomputed after the state
+	 * changed, so validating many manifests against the same state does not
+	 * scan all of its bundles each time.
+	 * </p>
+	 *
+	 * @return an unmodifiable map of package name to export description
+	 */
+	public synchronized Map<String, ExportPackageDescription> getExportedPackages() {
+		long timeStamp = fState.getTimeStamp();
+		if (fExportedPackages == null || fExportedPackagesTimeStamp != timeStamp) {
+			fExportedPackages = Collections.unmodifiableMap(computeExportedPackages(fState));
+			fExportedPackagesTimeStamp = timeStamp;
+		}
+		return fExportedPackages;
+	}
+
+	/**
+	 * Returns the bundles of this state indexed by symbolic name. Like
+	 * {@link #getExportedPackages()}, the index is shared by all callers and
+	 * only recomputed after the state changed.
+	 *
+	 * @return an unmodifiable map of symbolic name to the bundles with that
+	 *         name
+	 */
+	public synchronized Map<String, BundleDescription[]> getBundlesByName() {
+		long timeStamp = fState.getTimeStamp();
+		if (fBundlesByName == null || fBundlesByNameTimeStamp != timeStamp) {
+			Map<String, List<BundleDescription>> bundles = new HashMap<>();
+			for (BundleDescription bundle : fState.getBundles()) {
+				bundles.computeIfAbsent(bundle.getSymbolicName(), name -> new ArrayList<>()).add(bundle);
+			}
+			Map<String, BundleDescription[]> byName = new HashMap<>(bundles.size());
+			bundles.forEach((name, list) -> byName.put(name, list.toArray(new BundleDescription[list.size()])));
+			fBundlesByName = Collections.unmodifiableMap(byName);
+			fBundlesByNameTimeStamp = timeStamp;
+		}
+		return fBundlesByName;
+	}
+
+	private synchronized void invalidateIndexes() {
+		fExportedPackages = null;
+		fBundlesByName = null;
+	}
+
+	/**
+	 * Computes the packages exported by the bundles of the given state, indexed
+	 * by package name, preferring exports from resolved bundles.
+	 *
+	 * @param state the state to compute the exports of
+	 * @return a new map of package name to export description
+	 */
+	public static Map<String, ExportPackageDescription> computeExportedPackages(State state) {
+		Map<String, ExportPackageDescription> exported = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			for (ExportPackageDescription export : bundle.getExportPackages()) {
+				String name = export.getName();
+				if (!exported.containsKey(name) || export.getSupplier().isResolved()) {
+					exported.put(name, export);
+				}
+			}
+		}
+		return exported;
+	}
+
 	protected boolean initializePlatformProperties() {
 		if (fExecutionEnvironments == null && !fNoProfile) {
 			setExecutionEnvironments();
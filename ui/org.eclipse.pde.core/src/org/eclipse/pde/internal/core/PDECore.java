@@ -169,6 +169,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private TracingOptionsManager fTracingOptionsManager;
 	private BundleContext fBundleContext;
 	private JavaElementChangeListener fJavaElementChangeListener;
+	private ProjectPackageInventory fProjectPackageInventory;
 
 	private FeatureRebuilder fFeatureRebuilder;
 
@@ -236,6 +237,14 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fJavaElementChangeListener;
 	}
 
+	public synchronized ProjectPackageInventory getProjectPackageInventory() {
+		if (fProjectPackageInventory == null) {
+			fProjectPackageInventory = new ProjectPackageInventory();
+			fProjectPackageInventory.start();
+		}
+		return fProjectPackageInventory;
+	}
+
 	public synchronized SchemaRegistry getSchemaRegistry() {
 		if (fSchemaRegistry == null) {
 			fSchemaRegistry = new SchemaRegistry();
@@ -355,6 +364,10 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fPluginRebuilder.stop();
 		fFeatureRebuilder.stop();
 
+		if (fProjectPackageInventory != null) {
+			fProjectPackageInventory.shutdown();
+			fProjectPackageInventory = null;
+		}
 		if (fSchemaRegistry != null) {
 			fSchemaRegistry.shutdown();
 			fSchemaRegistry = null;
@@ -247,8 +247,6 @@ public class PDECoreMessages extends NLS {
 
 	public static String BundleValidationOperation_multiple_singletons;
 
-	public static String ManifestConsistencyChecker_buildPropertiesSubtask;
-
 	public static String BuildErrorReporter_missingEntry;
 	public static String BuildErrorReporter_missingFolder;
 	public static String BuildErrorReporter_emptyEntry;
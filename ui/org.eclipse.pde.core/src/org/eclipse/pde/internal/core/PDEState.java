@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -176,7 +177,7 @@ public class PDEState extends MinimalState {
 	 * @return File object or {@code null} if URI can't be converted to file. In
 	 *         the later case an error is logged.
 	 */
-	private static File toFile(URI uri) {
+	static File toFile(URI uri) {
 		IPath path = URIUtil.toPath(uri);
 		if (path != null) {
 			return path.toFile();
@@ -243,6 +244,47 @@ public class PDEState extends MinimalState {
 		return fTargetModels.toArray(new IPluginModelBase[fTargetModels.size()]);
 	}
 
+	/**
+	 * Adds the bundles at the given locations to this state and creates their
+	 * target models. The state is not resolved.
+	 *
+	 * @param target urls of the target bundles to add
+	 * @return the models of the bundles that could be added
+	 */
+	public IPluginModelBase[] addTargetBundles(URI[] target) {
+		List<IPluginModelBase> models = new ArrayList<>(target.length);
+		for (URI uri : target) {
+			File file = toFile(uri);
+			if (file == null) {
+				continue;
+			}
+			try {
+				BundleDescription desc = addBundle(file, -1);
+				if (desc != null) {
+					IPluginModelBase model = createExternalModel(desc);
+					fTargetModels.add(model);
+					models.add(model);
+				}
+			} catch (CoreException e) {
+				PDECore.log(e);
+			}
+		}
+		return models.toArray(new IPluginModelBase[models.size()]);
+	}
+
+	/**
+	 * Removes the given target models and their bundles from this state. The
+	 * state is not resolved.
+	 *
+	 * @param models the target models to remove
+	 */
+	public void removeTargetModels(IPluginModelBase[] models) {
+		for (IPluginModelBase model : models) {
+			fTargetModels.remove(model);
+			removeBundleDescription(model.getBundleDescription());
+		}
+	}
+
 	/**
 	 * In previous releases the state was saved to the PDE .metadata directory.  If
 	 * any of these states are still around we should delete them.
@@ -14,6 +14,9 @@
 package org.eclipse.pde.internal.core;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
 import org.eclipse.pde.core.plugin.ModelEntry;
 
 public class PluginModelDelta {
@@ -68,6 +71,39 @@ public class PluginModelDelta {
 		kind |= type;
 	}
 
+	/**
+	 * Reports an entry that was removed and added again with the same id, such
+	 * as a target bundle that changed on disk, as a changed entry.
+	 */
+	void mergeReplacedEntries() {
+		if (added == null || removed == null) {
+			return;
+		}
+		Set<String> replaced = new HashSet<>();
+		for (Iterator<ModelEntry> iterator = added.iterator(); iterator.hasNext();) {
+			ModelEntry entry = iterator.next();
+			for (ModelEntry removedEntry : removed) {
+				if (removedEntry.getId().equals(entry.getId())) {
+					replaced.add(entry.getId());
+					iterator.remove();
+					changed = addEntry(changed, entry);
+					break;
+				}
+			}
+		}
+		removed.removeIf(entry -> replaced.contains(entry.getId()));
+		kind = 0;
+		if (!added.isEmpty()) {
+			kind |= ADDED;
+		}
+		if (!removed.isEmpty()) {
+			kind |= REMOVED;
+		}
+		if (changed != null && !changed.isEmpty()) {
+			kind |= CHANGED;
+		}
+	}
+
 	private ArrayList<ModelEntry> addEntry(ArrayList<ModelEntry> list, ModelEntry entry) {
 		if (list == null) {
 			list = new ArrayList<>();
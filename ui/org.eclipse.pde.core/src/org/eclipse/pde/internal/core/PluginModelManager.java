@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
@@ -47,11 +48,15 @@ import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.PlatformAdmin;
 import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.pde.core.IModel;
 import org.eclipse.pde.core.IModelProviderEvent;
 import org.eclipse.pde.core.IModelProviderListener;
@@ -60,13 +65,24 @@ import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.plugin.WorkspaceExtensionsModel;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
 
 public class PluginModelManager implements IModelProviderListener {
 	private static final String fExternalPluginListFile = "SavedExternalPluginList.txt"; //$NON-NLS-1$
+
+	/*
+	 * A target reload is applied to the existing state as a diff of the target
+	 * bundles, unless this property is set
+	 */
+	private static final boolean FULL_TARGET_RELOAD = Boolean.getBoolean("org.eclipse.pde.fullTargetReload"); //$NON-NLS-1$
 	private static PluginModelManager fModelManager;
 
 	/**
@@ -203,6 +219,15 @@ public class PluginModelManager implements IModelProviderListener {
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
 	private boolean fCancelled = false;
+	/**
+	 * stamps of the bundle files loaded in the target part of fState, keyed by
+	 * bundle location
+	 */
+	private Map<String, String> fExternalBundleStamps = Collections.emptyMap();
+	/**
+	 * stamp of the target environment and JREs fState was created for
+	 */
+	private String fTargetEnvironmentStamp;
 
 	/**
 	 * Initialize the workspace and external (target) model manager
@@ -308,6 +333,7 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		// notify all interested listeners in the changes made to the master table of entries
+		delta.mergeReplacedEntries();
 		fireDelta(delta);
 	}
 
@@ -533,15 +559,190 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Clears all existing models and recreates them
+	 * Updates the models to the current target. If the models are initialized,
+	 * only the target bundles that were added, removed or changed since the
+	 * last load are updated, otherwise all models are recreated.
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
+			if (!FULL_TARGET_RELOAD && fEntries != null && fState != null && reloadTargetIncrementally(monitor)) {
+				return;
+			}
 			fEntries = null;
 			initializeTable(monitor);
 		}
 	}
 
+	/**
+	 * Applies the difference between the bundles of the current target and the
+	 * target bundles in the state to the state and the master table, then
+	 * resolves the affected bundles and notifies listeners with the precise
+	 * delta.
+	 *
+	 * Has to be called synchronized with fEntriesSynchronizer
+	 *
+	 * @return <code>false</code> if the models have to be recreated instead
+	 */
+	private boolean reloadTargetIncrementally(IProgressMonitor monitor) {
+		long startTime = System.currentTimeMillis();
+		try {
+			ITargetDefinition unresolvedRepoBasedtarget = TargetPlatformHelper.getUnresolvedRepositoryBasedWorkspaceTarget();
+			if (unresolvedRepoBasedtarget != null && !P2TargetUtils.isProfileValid(unresolvedRepoBasedtarget)) {
+				return false;
+			}
+		} catch (CoreException e) {
+			return false;
+		}
+		SubMonitor subMon = SubMonitor.convert(monitor, PDECoreMessages.PluginModelManager_InitializingPluginModels, 100);
+		URI[] externalUris = getExternalBundles(subMon.split(70));
+		if (subMon.isCanceled()) {
+			return false;
+		}
+		// the platform properties of the state depend on the target
+		// environment and the JREs, only a new state picks up their changes
+		if (!getTargetEnvironmentStamp().equals(fTargetEnvironmentStamp)) {
+			return false;
+		}
+
+		Map<String, URI> newLocations = new LinkedHashMap<>();
+		for (URI uri : externalUris) {
+			File file = PDEState.toFile(uri);
+			if (file != null) {
+				newLocations.put(file.getAbsolutePath(), uri);
+			}
+		}
+		Map<String, String> newStamps = new HashMap<>();
+		List<IPluginModelBase> removed = new ArrayList<>();
+		for (IPluginModelBase model : fExternalManager.getAllModels()) {
+			BundleDescription desc = model.getBundleDescription();
+			String location = desc == null ? null : desc.getLocation();
+			if (location == null || !newLocations.containsKey(location)) {
+				removed.add(model);
+				continue;
+			}
+			String stamp = getBundleStamp(new File(location));
+			if (stamp.equals(fExternalBundleStamps.get(location))) {
+				newStamps.put(location, stamp);
+			} else {
+				removed.add(model);
+			}
+		}
+		// the system bundle provides the packages of the platform properties
+		for (IPluginModelBase model : removed) {
+			if (fState.getSystemBundle().equals(model.getPluginBase().getId())) {
+				return false;
+			}
+		}
+		List<URI> added = new ArrayList<>();
+		for (Entry<String, URI> entry : newLocations.entrySet()) {
+			if (!newStamps.containsKey(entry.getKey())) {
+				added.add(entry.getValue());
+			}
+		}
+		// with a different target, building a fresh state is cheaper
+		if (removed.size() + added.size() > newLocations.size() / 2) {
+			return false;
+		}
+
+		fCancelled = false;
+		if (!removed.isEmpty() || !added.isEmpty()) {
+			// a changed bundle is added again at the location of its old description
+			IPluginModelBase[] removedModels = removed.toArray(new IPluginModelBase[removed.size()]);
+			fState.removeTargetModels(removedModels);
+			IPluginModelBase[] addedModels = fState.addTargetBundles(added.toArray(new URI[added.size()]));
+			for (IPluginModelBase model : addedModels) {
+				newStamps.put(model.getBundleDescription().getLocation(), getBundleStamp(new File(model.getBundleDescription().getLocation())));
+			}
+			fExternalManager.setModels(fState.getTargetModels());
+
+			int types = 0;
+			if (removedModels.length > 0) {
+				types |= IModelProviderEvent.MODELS_REMOVED;
+			}
+			if (addedModels.length > 0) {
+				types |= IModelProviderEvent.MODELS_ADDED;
+			}
+			// workspace bundles with the same symbolic name still take precedence
+			boolean preferWorkspaceBundle = PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+			for (IPluginModelBase model : addedModels) {
+				String id = model.getPluginBase().getId();
+				LocalModelEntry entry = id == null ? null : fEntries.get(id);
+				if (preferWorkspaceBundle && entry != null && entry.hasWorkspaceModels()) {
+					fState.removeBundleDescription(model.getBundleDescription());
+				}
+			}
+			// updates the master table and the state, resolves the affected bundles and fires the deltas
+			modelsChangedSynchronized(new ModelProviderEvent(fExternalManager, types, addedModels, removedModels, null));
+			PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		}
+		fExternalBundleStamps = newStamps;
+		boolean externalPluginsChanged = isSavedExternalPluginListDifferent(externalUris);
+		saveExternalPluginList(externalUris);
+		// touch all projects if the target content differs from the saved list
+		if (externalPluginsChanged) {
+			fireStateChanged(fState);
+		}
+		subMon.split(30);
+
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target reloaded incrementally: " + added.size() + " bundles added, " + removed.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " removed in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a stamp of the content of the given bundle jar or directory,
+	 * changing whenever the jar is modified, or the directory, its manifest,
+	 * plugin.xml, fragment.xml or one of the jars on its bundle class path.
+	 */
+	private static String getBundleStamp(File bundle) {
+		if (!bundle.isDirectory()) {
+			return getFileStamp(bundle);
+		}
+		StringBuilder stamp = new StringBuilder(getFileStamp(bundle));
+		for (String name : new String[] {ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR}) {
+			stamp.append(';').append(getFileStamp(new File(bundle, name)));
+		}
+		try {
+			String classpath = ManifestUtils.loadManifest(bundle).get(Constants.BUNDLE_CLASSPATH);
+			if (classpath != null) {
+				for (ManifestElement element : ManifestElement.parseHeader(Constants.BUNDLE_CLASSPATH, classpath)) {
+					for (String path : element.getValueComponents()) {
+						stamp.append(';').append(getFileStamp(new File(bundle, path)));
+					}
+				}
+			}
+		} catch (CoreException | BundleException e) {
+			// the stamp of the manifest covers a manifest that cannot be read
+		}
+		return stamp.toString();
+	}
+
+	private static String getFileStamp(File file) {
+		return file.lastModified() + ":" + file.length(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns a stamp of the target environment and of the JREs of the known
+	 * execution environments, which the platform properties of the state are
+	 * computed from.
+	 */
+	private static String getTargetEnvironmentStamp() {
+		StringBuilder stamp = new StringBuilder();
+		stamp.append(TargetPlatform.getOS()).append(',').append(TargetPlatform.getWS()).append(',')
+				.append(TargetPlatform.getOSArch()).append(',').append(TargetPlatform.getNL());
+		for (String id : TargetPlatformHelper.getKnownExecutionEnvironments()) {
+			stamp.append(';').append(id);
+			IExecutionEnvironment environment = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment(id);
+			IVMInstall vm = environment == null ? null : TargetPlatformHelper.bestVmInstallFor(environment);
+			if (vm != null) {
+				stamp.append('=').append(vm.getInstallLocation());
+			}
+		}
+		return stamp.toString();
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -613,8 +814,17 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
+		fTargetEnvironmentStamp = getTargetEnvironmentStamp();
 		fState = new PDEState(externalUris, true, true, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
+		Map<String, String> externalBundleStamps = new HashMap<>();
+		for (IPluginModelBase model : fState.getTargetModels()) {
+			String location = model.getBundleDescription().getLocation();
+			if (location != null) {
+				externalBundleStamps.put(location, getBundleStamp(new File(location)));
+			}
+		}
+		fExternalBundleStamps = externalBundleStamps;
 		addToTable(entries, fExternalManager.getAllModels());
 
 		// Check if the saved external bundle list has changed, if so target contents is different and projects should be rebuilt
@@ -639,6 +849,9 @@ public class PluginModelManager implements IModelProviderListener {
 		if (PDECore.DEBUG_MODEL) {
 			System.out.println(fWorkspaceManager.getModelsMap().size() + " workspace models created in  " //$NON-NLS-1$
 					+ (System.currentTimeMillis() - startWorkspaceAdditions) + " ms"); //$NON-NLS-1$
+			int[] extensionStatistics = WorkspaceExtensionsModel.getOnDemandStatistics();
+			System.out.println(extensionStatistics[1] + " of " + extensionStatistics[0] //$NON-NLS-1$
+					+ " workspace extension models loaded on demand so far"); //$NON-NLS-1$
 		}
 
 		// Resolve the state for all external and workspace models
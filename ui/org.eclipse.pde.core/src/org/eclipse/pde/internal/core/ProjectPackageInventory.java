@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Keeps, per workspace project, the names of the non-empty packages contained
+ * in its source folders and internal libraries. The default package is
+ * reported as <code>"."</code>.
+ * <p>
+ * The inventory of a project is computed from the Java model on first request
+ * and dropped whenever a Java element delta adds or removes package fragment
+ * roots, packages or their content, or changes the classpath of the project.
+ * Changes to the content of existing compilation units keep the inventory.
+ * </p>
+ */
+public class ProjectPackageInventory implements IElementChangedListener {
+
+	private final Map<IProject, Set<String>> fPackages = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on every invalidation, so an inventory computed concurrently
+	 * with a delta is not cached
+	 */
+	private final AtomicLong fModificationCount = new AtomicLong();
+
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public void shutdown() {
+		JavaCore.removeElementChangedListener(this);
+		fPackages.clear();
+	}
+
+	/**
+	 * Returns the names of the non-empty packages of the given project, or an
+	 * empty set if the project is not a Java project.
+	 *
+	 * @param project the project to list the packages of
+	 * @return an unmodifiable set of package names
+	 */
+	public Set<String> getPackages(IProject project) {
+		Set<String> packages = fPackages.get(project);
+		if (packages == null) {
+			long modificationCount = fModificationCount.get();
+			packages = computePackages(project);
+			if (modificationCount == fModificationCount.get()) {
+				fPackages.put(project, packages);
+			}
+		}
+		return packages;
+	}
+
+	private Set<String> computePackages(IProject project) {
+		Set<String> packages = new HashSet<>();
+		try {
+			if (project.hasNature(JavaCore.NATURE_ID)) {
+				IJavaProject jp = JavaCore.create(project);
+				IPackageFragmentRoot[] roots = jp.getPackageFragmentRoots();
+				for (IPackageFragmentRoot root : roots) {
+					if (root.getKind() == IPackageFragmentRoot.K_SOURCE || (root.getKind() == IPackageFragmentRoot.K_BINARY && !root.isExternal())) {
+						IJavaElement[] children = root.getChildren();
+						for (IJavaElement element : children) {
+							IPackageFragment f = (IPackageFragment) element;
+							String name = f.getElementName();
+							if (name.equals("")) { //$NON-NLS-1$
+								name = "."; //$NON-NLS-1$
+							}
+							if (f.hasChildren() || f.getNonJavaResources().length > 0) {
+								packages.add(name);
+							}
+						}
+					}
+				}
+			}
+		} catch (CoreException ce) {
+		}
+		return Collections.unmodifiableSet(packages);
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		handleDelta(event.getDelta());
+	}
+
+	private void handleDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		if (element instanceof IJavaModel) {
+			for (IJavaElementDelta childDelta : delta.getAffectedChildren()) {
+				handleDelta(childDelta);
+			}
+		} else if (element instanceof IJavaProject) {
+			IProject project = ((IJavaProject) element).getProject();
+			if (fPackages.containsKey(project) && isStructuralChange(delta)) {
+				invalidate(project);
+			}
+		}
+	}
+
+	private boolean isStructuralChange(IJavaElementDelta delta) {
+		int kind = delta.getKind();
+		if (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED) {
+			return true;
+		}
+		IJavaElement element = delta.getElement();
+		int flags = delta.getFlags();
+		if (element instanceof IJavaProject) {
+			if ((flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+					| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+				return true;
+			}
+		} else if (element instanceof IPackageFragmentRoot) {
+			if ((flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+					| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+				return true;
+			}
+		} else if (!(element instanceof IPackageFragment)) {
+			// compilation units and class files that changed in place
+			return false;
+		}
+		if (hasAddedOrRemovedResources(delta.getResourceDeltas())) {
+			return true;
+		}
+		for (IJavaElementDelta childDelta : delta.getAffectedChildren()) {
+			if (isStructuralChange(childDelta)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasAddedOrRemovedResources(IResourceDelta[] deltas) {
+		if (deltas != null) {
+			for (IResourceDelta delta : deltas) {
+				if (delta.getKind() == IResourceDelta.ADDED || delta.getKind() == IResourceDelta.REMOVED) {
+					return true;
+				}
+				if (hasAddedOrRemovedResources(delta.getAffectedChildren())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void invalidate(IProject project) {
+		fModificationCount.incrementAndGet();
+		fPackages.remove(project);
+	}
+
+}
@@ -433,7 +433,7 @@ public class TargetPlatformHelper {
 		return null;
 	}
 
-	private static IVMInstall bestVmInstallFor(IExecutionEnvironment environment) {
+	static IVMInstall bestVmInstallFor(IExecutionEnvironment environment) {
 		IVMInstall defaultVM = environment.getDefaultVM();
 		if (defaultVM != null) {
 			return defaultVM;
@@ -31,10 +31,8 @@ public class WorkspaceFeatureModelManager extends WorkspaceModelManager<IFeature
 
 	@Override
 	protected void createModel(IProject project, boolean notify) {
-		IFile featureXml = PDEProject.getFeatureXml(project);
-		if (featureXml.exists()) {
-			IFeatureModel model = new WorkspaceFeatureModel(featureXml);
-			loadModel(model, false);
+		IFeatureModel model = newModel(project);
+		if (model != null) {
 			getModelsMap().put(project, model);
 			if (notify) {
 				addChange(model, IModelProviderEvent.MODELS_ADDED);
@@ -42,6 +40,17 @@ public class WorkspaceFeatureModelManager extends WorkspaceModelManager<IFeature
 		}
 	}
 
+	@Override
+	protected IFeatureModel newModel(IProject project) {
+		IFile featureXml = PDEProject.getFeatureXml(project);
+		if (featureXml.exists()) {
+			IFeatureModel model = new WorkspaceFeatureModel(featureXml);
+			loadModel(model, false);
+			return model;
+		}
+		return null;
+	}
+
 	@Override
 	protected IFeatureModel removeModel(IProject project) {
 		IFeatureModel model = getModelsMap().remove(project);
@@ -22,9 +22,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -105,6 +107,12 @@ public abstract class WorkspaceModelManager<T> extends AbstractModelManager
 		}
 	}
 
+	/*
+	 * Managers supporting it create the models of the workspace projects
+	 * concurrently on initialization, unless this property is set
+	 */
+	private static final boolean SERIAL_INITIALIZATION = Boolean.getBoolean("org.eclipse.pde.serialModelInitialization"); //$NON-NLS-1$
+
 	private Map<IProject, T> fModels = null;
 	private ArrayList<ModelChange> fChangedModels;
 	private final IPreferenceChangeListener bundleRootChangedListener = createBundleRootChangeListener();
@@ -128,18 +136,74 @@ public abstract class WorkspaceModelManager<T> extends AbstractModelManager
 		ensureModelsMapCreated();
 
 		IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
+		if (SERIAL_INITIALIZATION) {
+			for (IProject project : projects) {
+				if (isInterestingProject(project)) {
+					createModel(project, false);
+				}
+			}
+		} else {
+			initializeInParallel(projects);
+		}
+		addListeners();
+	}
+
+	/**
+	 * Creates the models of the given projects on the common pool and adds
+	 * them to the models map at once, in the order of the projects, so the map
+	 * never exposes a partially initialized workspace.
+	 */
+	private void initializeInParallel(IProject[] projects) {
+		List<IProject> interestingProjects = new ArrayList<>();
 		for (IProject project : projects) {
 			if (isInterestingProject(project)) {
-				createModel(project, false);
+				interestingProjects.add(project);
 			}
 		}
-		addListeners();
+		Map<IProject, T> created = new ConcurrentHashMap<>();
+		interestingProjects.parallelStream().forEach(project -> {
+			T model = newModel(project);
+			if (model != null) {
+				created.put(project, model);
+			}
+		});
+		Map<IProject, T> models = new LinkedHashMap<>();
+		for (IProject project : interestingProjects) {
+			T model = created.get(project);
+			if (model != null) {
+				models.put(project, model);
+			}
+		}
+		fModels.putAll(models);
+		models.forEach(this::modelCreated);
 	}
 
 	protected abstract boolean isInterestingProject(IProject project);
 
 	protected abstract void createModel(IProject project, boolean notify);
 
+	/**
+	 * Creates and loads the model of the given project without registering it
+	 * or firing any event. Called concurrently for different projects during
+	 * initialization, so it must not change any shared state; such changes
+	 * belong in {@link #modelCreated(IProject, Object)}.
+	 *
+	 * @param project the project to create the model for
+	 * @return the model or <code>null</code> if the project has none
+	 */
+	protected abstract T newModel(IProject project);
+
+	/**
+	 * Called on the initializing thread for each model created by
+	 * {@link #newModel(IProject)} during initialization, once it is added to
+	 * the models map.
+	 *
+	 * @param project the project of the model
+	 * @param model the created model
+	 */
+	protected void modelCreated(IProject project, T model) {
+	}
+
 	protected abstract T removeModel(IProject project);
 
 	protected void addListeners() {
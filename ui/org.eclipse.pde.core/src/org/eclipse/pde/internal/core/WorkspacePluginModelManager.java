@@ -87,6 +87,12 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 					ICoreConstants.ECLIPSE_SOURCE_BUNDLE, //
 					ICoreConstants.ECLIPSE_EXPORT_EXTERNAL_ANNOTATIONS)));
 
+	/*
+	 * plugin.xml and fragment.xml of bundle projects are parsed when their
+	 * content is first accessed, unless this property is set
+	 */
+	private static final boolean EAGER_EXTENSIONS = Boolean.getBoolean("org.eclipse.pde.eagerExtensionModels"); //$NON-NLS-1$
+
 	private final ArrayList<IExtensionDeltaListener> fExtensionListeners = new ArrayList<>();
 	private ArrayList<ModelChange> fChangedExtensions = null;
 
@@ -99,6 +105,25 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 		return isPluginProject(project);
 	}
 
+	@Override
+	protected void createModel(IProject project, boolean notify) {
+		IPluginModelBase model = newModel(project);
+		if (model != null) {
+			getModelsMap().put(project, model);
+			modelCreated(project, model);
+			if (notify) {
+				addChange(model, IModelProviderEvent.MODELS_ADDED);
+			}
+		}
+	}
+
+	@Override
+	protected void modelCreated(IProject project, IPluginModelBase model) {
+		if (PDEProject.getOptionsFile(project).exists()) {
+			PDECore.getDefault().getTracingOptionsManager().reset();
+		}
+	}
+
 	/**
 	 * Creates a plug-in model based on the project structure.
 	 * <p>
@@ -111,7 +136,7 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 	 * </p>
 	 */
 	@Override
-	protected void createModel(IProject project, boolean notify) {
+	protected IPluginModelBase newModel(IProject project) {
 		IPluginModelBase model = null;
 		IFile manifest = PDEProject.getManifest(project);
 		IFile pluginXml = PDEProject.getPluginXml(project);
@@ -132,7 +157,11 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 			if (efile.exists()) {
 				WorkspaceExtensionsModel extModel = new WorkspaceExtensionsModel(efile);
 				extModel.setEditable(false);
-				loadModel(extModel, false);
+				if (EAGER_EXTENSIONS) {
+					loadModel(extModel, false);
+				} else {
+					extModel.setLoadOnDemand(true);
+				}
 				((IBundlePluginModelBase) model).setExtensionsModel(extModel);
 				extModel.setBundleModel((IBundlePluginModelBase) model);
 			}
@@ -144,17 +173,7 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 			model = new WorkspaceFragmentModel(fragmentXml, true);
 			loadModel(model, false);
 		}
-
-		if (PDEProject.getOptionsFile(project).exists()) {
-			PDECore.getDefault().getTracingOptionsManager().reset();
-		}
-
-		if (model != null) {
-			getModelsMap().put(project, model);
-			if (notify) {
-				addChange(model, IModelProviderEvent.MODELS_ADDED);
-			}
-		}
+		return model;
 	}
 
 	/**
@@ -295,7 +314,11 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 				extensions.setEditable(false);
 				((IBundlePluginModelBase) model).setExtensionsModel(extensions);
 				extensions.setBundleModel((IBundlePluginModelBase) model);
-				loadModel(extensions, false);
+				if (EAGER_EXTENSIONS) {
+					loadModel(extensions, false);
+				} else {
+					extensions.setLoadOnDemand(true);
+				}
 				addExtensionChange(model, IModelProviderEvent.MODELS_ADDED);
 			} else {
 				createModel(file.getProject(), true);
@@ -310,7 +333,11 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 					((IBundlePluginModelBase) model).setExtensionsModel(extensions);
 					((WorkspaceExtensionsModel) extensions).setBundleModel((IBundlePluginModelBase) model);
 				}
-				loadModel(extensions, reload);
+				// content that was not parsed yet is read from the changed file on first access
+				if (!reload || EAGER_EXTENSIONS || !(extensions instanceof WorkspaceExtensionsModel)
+						|| ((WorkspaceExtensionsModel) extensions).isContentLoaded()) {
+					loadModel(extensions, reload);
+				}
 			} else if (model != null) {
 				loadModel(model, true);
 				addChange(model, IModelProviderEvent.MODELS_CHANGED);
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -72,6 +71,7 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.AbstractNLModel;
 import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.MinimalState;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
@@ -495,7 +495,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			}
 
 			if (missingHost) {
-				BundleDescription[] suppliers = desc.getContainingState().getBundles(name);
+				BundleDescription[] suppliers = getBundles(desc.getContainingState(), name);
 				boolean resolved = true;
 				for (BundleDescription supplier : suppliers) {
 					if (supplier.getHost() != null) {
@@ -1032,7 +1032,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 
 			// It is possible for the bundle description to not match the headers
 			if (specs != null && specs[i].getSupplier() == null) {
-				if (desc.getContainingState().getBundle(specs[i].getName(), null) == null) {
+				if (getBundles(desc.getContainingState(), specs[i].getName()).length == 0) {
 					PDEState pdeState = TargetPlatformHelper.getPDEState();
 					if (pdeState != null) {
 						IPluginModelBase[] targetModels = pdeState.getTargetModels();
@@ -1161,8 +1161,6 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			}
 		}
 
-		HashMap<String, ExportPackageDescription> exported = getAvailableExportedPackages(desc.getContainingState());
-
 		ImportPackageSpecification[] imports = desc.getImportPackages();
 		if (desc.hasDynamicImports()) {
 			List<ImportPackageSpecification> staticImportsList = new ArrayList<>();
@@ -1174,6 +1172,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			imports = staticImportsList.toArray(new ImportPackageSpecification[staticImportsList.size()]);
 		}
 
+		Map<String, ExportPackageDescription> exported = null;
 		ManifestElement[] elements = header.getElements();
 		int index = 0;
 		for (ManifestElement element : elements) {
@@ -1208,6 +1207,9 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 				boolean optional = isOptional(element);
 				int severity = getRequireBundleSeverity(element, optional);
 
+				if (exported == null) {
+					exported = getAvailableExportedPackages(desc.getContainingState());
+				}
 				ExportPackageDescription export = exported.get(name);
 				if (export != null) {
 					if (export.getSupplier().isResolved()) {
@@ -1239,24 +1241,21 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 		}
 	}
 
-	private HashMap<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
-		BundleDescription[] bundles = state.getBundles();
+	private Map<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
+		PDEState pdeState = PDECore.getDefault().getModelManager().getState();
+		if (pdeState != null && pdeState.getState() == state) {
+			return pdeState.getExportedPackages();
+		}
+		return MinimalState.computeExportedPackages(state);
+	}
 
-		HashMap<String, ExportPackageDescription> exported = new HashMap<>();
-		for (BundleDescription bundle : bundles) {
-			ExportPackageDescription[] exports = bundle.getExportPackages();
-			for (ExportPackageDescription export : exports) {
-				String name = export.getName();
-				if (exported.containsKey(name)) {
-					if (export.getSupplier().isResolved()) {
-						exported.put(name, export);
-					}
-				} else {
-					exported.put(name, export);
-				}
-			}
+	private BundleDescription[] getBundles(State state, String symbolicName) {
+		PDEState pdeState = PDECore.getDefault().getModelManager().getState();
+		if (pdeState != null && pdeState.getState() == state && !Constants.SYSTEM_BUNDLE_SYMBOLICNAME.equals(symbolicName)) {
+			BundleDescription[] bundles = pdeState.getBundlesByName().get(symbolicName);
+			return bundles != null ? bundles : new BundleDescription[0];
 		}
-		return exported;
+		return state.getBundles(symbolicName);
 	}
 
 	protected void validateExportPackage(IProgressMonitor monitor) {
@@ -1392,28 +1391,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 	}
 
 	private void addProjectPackages(IProject proj) {
-		try {
-			if (proj.hasNature(JavaCore.NATURE_ID)) {
-				IJavaProject jp = JavaCore.create(proj);
-				IPackageFragmentRoot[] roots = jp.getPackageFragmentRoots();
-				for (int i = 0; i < roots.length; i++) {
-					if (roots[i].getKind() == IPackageFragmentRoot.K_SOURCE || (roots[i].getKind() == IPackageFragmentRoot.K_BINARY && !roots[i].isExternal())) {
-						IJavaElement[] children = roots[i].getChildren();
-						for (IJavaElement element : children) {
-							IPackageFragment f = (IPackageFragment) element;
-							String name = f.getElementName();
-							if (name.equals("")) { //$NON-NLS-1$
-								name = "."; //$NON-NLS-1$
-							}
-							if (f.hasChildren() || f.getNonJavaResources().length > 0) {
-								fProjectPackages.add(name);
-							}
-						}
-					}
-				}
-			}
-		} catch (CoreException ce) {
-		}
+		fProjectPackages.addAll(PDECore.getDefault().getProjectPackageInventory().getPackages(proj));
 	}
 
 	protected boolean isCheckDeprecated() {
@@ -115,5 +115,17 @@ public abstract class ErrorReporter {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Validates the content, recording the problems found without updating the
+	 * markers of the file. {@link #applyMarkers()} must be called afterwards.
+	 */
+	void analyzeContent(IProgressMonitor monitor) {
+		validate(monitor);
+	}
+
+	void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 }
@@ -18,9 +18,14 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IMarker;
@@ -32,6 +37,8 @@ import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -63,6 +70,15 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	 */
 	private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
 
+	/*
+	 * Projects are validated concurrently when the workspace builds projects
+	 * in parallel, and the manifest, extensions and build.properties of a
+	 * project are analyzed concurrently. To validate one project and one file
+	 * after the other, specify VM property:
+	 * {@code -Dorg.eclipse.pde.serialManifestValidation=true}
+	 */
+	private static final boolean SERIAL_VALIDATION = Boolean.getBoolean("org.eclipse.pde.serialManifestValidation"); //$NON-NLS-1$
+
 	private final ClassChangeVisitor fClassFileVisitor = new ClassChangeVisitor();
 
 	static class ClassChangeVisitor implements IResourceDeltaVisitor {
@@ -250,6 +266,7 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
 
+		List<Validation> validations = new ArrayList<>(3);
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
 			IProject project = getProject();
 			IFile file = PDEProject.getPluginXml(project);
@@ -258,17 +275,23 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				addFileValidations(file, type, validations);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					BundleErrorReporter reporter = new BundleErrorReporter(manifestFile);
+					validations.add(new Validation(manifestFile, reporter::analyzeContent, reporter::applyMarkers));
 				}
 			}
 		}
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			IFile file = PDEProject.getBuildProperties(getProject());
+			if (file.exists()) {
+				BuildErrorReporter reporter = new BuildErrorReporter(file);
+				validations.add(new Validation(file, reporter::analyzeContent, reporter::applyMarkers));
+			}
 		}
+		runValidations(validations, subMonitor);
 	}
 
 	private int getWorkAmount(int type) {
@@ -300,26 +323,7 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
-		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
-	}
-
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
+	private void addFileValidations(IFile file, int type, List<Validation> validations) {
 		IFile bundleManifest = PDEProject.getManifest(getProject());
 		XMLErrorReporter reporter = null;
 		BundleErrorReporter bundleReporter = null;
@@ -338,27 +342,85 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 		}
 		if (reporter != null) {
-			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			XMLErrorReporter xmlReporter = reporter;
+			validations.add(new Validation(file, m -> {
+				DefaultSAXParser.parse(file, xmlReporter);
+				xmlReporter.analyzeContent(m);
+			}, xmlReporter::applyMarkers));
 		}
 		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			validations.add(new Validation(bundleManifest, bundleReporter::analyzeContent, bundleReporter::applyMarkers));
 		}
-		monitor.done();
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
+	/**
+	 * Runs the analysis of the given validations, concurrently when there is
+	 * more than one, and then applies their markers in order on the build
+	 * thread.
+	 */
+	private void runValidations(List<Validation> validations, SubMonitor subMonitor) {
+		if (validations.isEmpty() || subMonitor.isCanceled()) {
 			return;
 		}
-		IProject project = getProject();
-		IFile file = PDEProject.getBuildProperties(project);
-		if (file.exists()) {
-			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
-			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+		subMonitor.setWorkRemaining(validations.size());
+		if (SERIAL_VALIDATION || validations.size() == 1) {
+			for (Validation validation : validations) {
+				SubMonitor child = subMonitor.split(1);
+				child.subTask(NLS.bind(PDECoreMessages.Builders_verifying, validation.file.getFullPath().toString()));
+				validation.analysis.accept(child);
+				child.subTask(PDECoreMessages.Builders_updating);
+				validation.apply.run();
+			}
+			return;
+		}
+
+		IProgressMonitor cancelMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
+		List<CompletableFuture<Void>> analyses = new ArrayList<>(validations.size());
+		for (Validation validation : validations) {
+			analyses.add(CompletableFuture.runAsync(() -> validation.analysis.accept(cancelMonitor)));
+		}
+		for (int i = 0; i < validations.size(); i++) {
+			Validation validation = validations.get(i);
+			SubMonitor child = subMonitor.split(1);
+			child.subTask(NLS.bind(PDECoreMessages.Builders_verifying, validation.file.getFullPath().toString()));
+			try {
+				analyses.get(i).join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof OperationCanceledException) {
+					throw (OperationCanceledException) e.getCause();
+				}
+				PDECore.log(e.getCause());
+				// do not leave the markers of the previous build on the file
+				try {
+					cleanProblems(validation.file, IResource.DEPTH_ZERO);
+				} catch (CoreException ce) {
+					PDECore.log(ce);
+				}
+				continue;
+			}
+			child.subTask(PDECoreMessages.Builders_updating);
+			validation.apply.run();
+		}
+	}
+
+	/**
+	 * The validation of one file of the project, split in a read-only analysis
+	 * and the application of the resulting markers.
+	 */
+	private static class Validation {
+		final IFile file;
+		final Consumer<IProgressMonitor> analysis;
+		final Runnable apply;
+
+		Validation(IFile file, Consumer<IProgressMonitor> analysis, Runnable apply) {
+			this.file = file;
+			this.analysis = analysis;
+			this.apply = apply;
 		}
 	}
 
@@ -468,6 +530,11 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
+		if (!SERIAL_VALIDATION) {
+			// the validation only reads other projects and only changes the
+			// markers of this project
+			return getProject();
+		}
 		return new MultiRule(Arrays.stream(getProject().getWorkspace().getRoot().getProjects())
 				.filter(PDEBuilderHelper::isPDEProject).toArray(ISchedulingRule[]::new));
 	}
@@ -404,6 +404,19 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Same as {@link #validateContent(IProgressMonitor)}, except that the
+	 * problems are only recorded; they are turned into markers by
+	 * {@link #applyMarkers()}.
+	 */
+	void analyzeContent(IProgressMonitor monitor) {
+		validate(monitor);
+	}
+
+	void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 
 	public Element getDocumentRoot() {
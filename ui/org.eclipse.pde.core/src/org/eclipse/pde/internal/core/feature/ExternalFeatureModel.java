@@ -41,6 +41,18 @@ public class ExternalFeatureModel extends AbstractFeatureModel {
 	public void load() throws CoreException {
 	}
 
+	/**
+	 * Loads this model from a feature that was parsed before and read from a
+	 * cache of parsed features.
+	 *
+	 * @param restored the feature, not yet connected to any model
+	 */
+	public void load(Feature restored) {
+		restored.connect(this, null);
+		feature = restored;
+		setLoaded(true);
+	}
+
 	public void setInstallLocation(String location) {
 		this.location = location;
 	}
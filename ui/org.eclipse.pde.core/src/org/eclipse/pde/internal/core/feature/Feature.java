@@ -37,6 +37,8 @@ import org.eclipse.pde.internal.core.ifeature.IFeatureData;
 import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
 import org.eclipse.pde.internal.core.ifeature.IFeatureInfo;
 import org.eclipse.pde.internal.core.ifeature.IFeatureInstallHandler;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeatureObject;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.ifeature.IFeatureURL;
 import org.eclipse.pde.internal.core.plugin.PluginBase;
@@ -761,6 +763,32 @@ public class Feature extends VersionableObject implements IFeature {
 		fValid = false;
 	}
 
+	@Override
+	void connect(IFeatureModel model, IFeatureObject parent) {
+		super.connect(model, parent);
+		connectAll(fData, model);
+		connectAll(fChildren, model);
+		connectAll(fPlugins, model);
+		connectAll(fImports, model);
+		for (IFeatureInfo info : fInfos) {
+			if (info != null) {
+				((FeatureObject) info).connect(model, this);
+			}
+		}
+		if (fUrl != null) {
+			((FeatureObject) fUrl).connect(model, this);
+		}
+		if (fHandler != null) {
+			((FeatureObject) fHandler).connect(model, this);
+		}
+	}
+
+	private void connectAll(List<? extends IFeatureObject> objects, IFeatureModel model) {
+		for (IFeatureObject object : objects) {
+			((FeatureObject) object).connect(model, this);
+		}
+	}
+
 	@Override
 	public boolean isValid() {
 		return fValid;
@@ -137,6 +137,17 @@ public abstract class FeatureObject extends PlatformObject implements IFeatureOb
 		return parent;
 	}
 
+	/**
+	 * Connects this object to its model and parent, which are not serialized
+	 *
+	 * @param model the model of this object
+	 * @param parent the parent of this object or <code>null</code>
+	 */
+	void connect(IFeatureModel model, IFeatureObject parent) {
+		this.model = model;
+		this.parent = parent;
+	}
+
 	protected void parse(Node node) {
 		label = getNodeAttribute(node, "label"); //$NON-NLS-1$
 	}
@@ -18,6 +18,8 @@ import java.util.Locale;
 import java.util.Vector;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.core.IModelChangedEvent;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeatureObject;
 import org.eclipse.pde.internal.core.ifeature.IFeatureURL;
 import org.eclipse.pde.internal.core.ifeature.IFeatureURLElement;
 import org.w3c.dom.Node;
@@ -66,6 +68,17 @@ public class FeatureURL extends FeatureObject implements IFeatureURL {
 		return fUpdate;
 	}
 
+	@Override
+	void connect(IFeatureModel model, IFeatureObject parent) {
+		super.connect(model, parent);
+		if (fUpdate != null) {
+			((FeatureURLElement) fUpdate).connect(model, this);
+		}
+		for (IFeatureURLElement discovery : fDiscoveries) {
+			((FeatureURLElement) discovery).connect(model, this);
+		}
+	}
+
 	@Override
 	protected void parse(Node node) {
 		NodeList children = node.getChildNodes();
@@ -15,13 +15,16 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.plugin;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -29,6 +32,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.core.IEditableModel;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.build.IBuildEntry;
+import org.eclipse.pde.core.plugin.IExtensions;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.PDECore;
@@ -45,6 +49,15 @@ public class WorkspaceExtensionsModel extends AbstractExtensionsModel implements
 	private boolean fEditable = true;
 	private transient IBundlePluginModelBase fBundleModel;
 
+	/**
+	 * Number of models created with {@link #setLoadOnDemand(boolean)} and
+	 * number of times such a model actually parsed its file
+	 */
+	private static final AtomicInteger fgOnDemandModels = new AtomicInteger();
+	private static final AtomicInteger fgOnDemandLoads = new AtomicInteger();
+
+	private boolean fLoadOnDemand;
+
 	@Override
 	protected NLResourceHelper createNLResourceHelper() {
 		return new NLResourceHelper(Constants.BUNDLE_LOCALIZATION_DEFAULT_BASENAME, getNLLookupLocations());
@@ -144,11 +157,90 @@ public class WorkspaceExtensionsModel extends AbstractExtensionsModel implements
 	@Override
 	public void save(PrintWriter writer) {
 		if (isLoaded()) {
-			fExtensions.write("", writer); //$NON-NLS-1$
+			getExtensions(true).write("", writer); //$NON-NLS-1$
 		}
 		fDirty = false;
 	}
 
+	/**
+	 * Defers parsing of the underlying file until the content of the model is
+	 * first accessed. Only meant for the read-only models shared by the
+	 * workspace model manager.
+	 */
+	public void setLoadOnDemand(boolean loadOnDemand) {
+		if (loadOnDemand && !fLoadOnDemand) {
+			fgOnDemandModels.incrementAndGet();
+		}
+		fLoadOnDemand = loadOnDemand;
+	}
+
+	/**
+	 * Returns whether the content of this model is in memory. A model loaded
+	 * on demand has no content until it is first accessed.
+	 */
+	public synchronized boolean isContentLoaded() {
+		return fExtensions != null;
+	}
+
+	@Override
+	public IExtensions getExtensions(boolean createIfMissing) {
+		if (fLoadOnDemand) {
+			return getExtensionsOnDemand();
+		}
+		return super.getExtensions(createIfMissing);
+	}
+
+	private synchronized Extensions getExtensionsOnDemand() {
+		if (fExtensions == null) {
+			fgOnDemandLoads.incrementAndGet();
+			try (InputStream stream = new BufferedInputStream(fUnderlyingResource.getContents(true))) {
+				load(stream, false);
+			} catch (CoreException | IOException e) {
+				PDECore.logException(e);
+			}
+			if (fExtensions == null) {
+				// the file could not be read, the model stays unloaded
+				fExtensions = createExtensions();
+			}
+		}
+		return fExtensions;
+	}
+
+	@Override
+	public boolean isLoaded() {
+		if (fLoadOnDemand && !isContentLoaded()) {
+			// the file is parsed when the content is first accessed
+			return fUnderlyingResource.exists();
+		}
+		return super.isLoaded();
+	}
+
+	@Override
+	public boolean isValid() {
+		if (fLoadOnDemand && !isContentLoaded()) {
+			// the content is only validated once it is parsed
+			return !isDisposed() && isLoaded();
+		}
+		return super.isValid();
+	}
+
+	@Override
+	public boolean isInSync() {
+		if (fLoadOnDemand && !isContentLoaded()) {
+			// the file is read when the content is first accessed
+			return true;
+		}
+		return super.isInSync();
+	}
+
+	/**
+	 * Returns the number of models loaded on demand that were created and the
+	 * number of times one of them parsed its file.
+	 */
+	public static int[] getOnDemandStatistics() {
+		return new int[] {fgOnDemandModels.get(), fgOnDemandLoads.get()};
+	}
+
 	@Override
 	public void setDirty(boolean dirty) {
 		fDirty = dirty;
@@ -74,8 +74,15 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		if (dir.isDirectory()) {
 			File site = getSite(dir);
 			File[] files = site.listFiles();
+			// reuse the bundles of the previous resolution if no file changed
+			String cacheKey = TYPE + ' ' + site.getAbsolutePath();
+			long fingerprint = TargetBundleCache.fingerprint(files);
+			TargetBundle[] cached = TargetBundleCache.read(cacheKey, fingerprint);
+			if (cached != null) {
+				return cached;
+			}
 			SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, files.length);
-			return Arrays.stream(files).parallel() //
+			TargetBundle[] bundles = Arrays.stream(files).parallel() //
 					.map(file -> {
 						localMonitor.split(1);
 						try {
@@ -86,6 +93,8 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 						}
 					}).filter(Objects::nonNull) //
 					.toArray(TargetBundle[]::new);
+			TargetBundleCache.write(cacheKey, fingerprint, bundles);
+			return bundles;
 		}
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
@@ -23,16 +23,16 @@ import java.io.StringWriter;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -442,47 +442,49 @@ public class IUBundleContainer extends AbstractBundleContainer {
 	 * @throws CoreException
 	 */
 	private Map<BundleInfo, TargetBundle> generateResolvedBundles(IQueryable<IInstallableUnit> source, IQueryable<IInstallableUnit> metadata, IFileArtifactRepository artifacts) throws CoreException {
+		long start = System.currentTimeMillis();
 		OSGiBundleQuery query = new OSGiBundleQuery();
 		IQueryResult<IInstallableUnit> queryResult = source.query(query, null);
-		Map<BundleInfo, TargetBundle> bundles = new LinkedHashMap<>();
+		Set<IArtifactKey> keys = new LinkedHashSet<>();
 		for (IInstallableUnit unit : queryResult) {
-			generateBundle(unit, artifacts, bundles);
+			keys.addAll(unit.getArtifacts());
 			if (getIncludeSource()) {
 				// bit of a hack using the bundle naming convention for finding source bundles
 				// but this matches what we do when adding source to the profile so...
 				IQuery<IInstallableUnit> sourceQuery = QueryUtil.createIUQuery(unit.getId() + ".source", unit.getVersion()); //$NON-NLS-1$
 				IQueryResult<IInstallableUnit> result = metadata.query(sourceQuery, null);
 				if (!result.isEmpty()) {
-					generateBundle(result.iterator().next(), artifacts, bundles);
+					keys.addAll(result.iterator().next().getArtifacts());
 				}
 			}
 		}
-		return bundles;
-	}
 
-	private void generateBundle(IInstallableUnit unit, IFileArtifactRepository repo, Map<BundleInfo, TargetBundle> bundles) throws CoreException {
-		Collection<IArtifactKey> artifacts = unit.getArtifacts();
-		for (IArtifactKey artifactKey : artifacts) {
-			File file = null;
-
-			Map<IFileArtifactRepository, File> mapRepoFile = P2TargetUtils.fgArtifactKeyRepoFile.get(artifactKey);
-			if (mapRepoFile != null){
-				file = mapRepoFile.get(repo);
+		// look up all artifacts at once, then read the bundles in parallel
+		Map<IArtifactKey, File> artifactFiles = P2TargetUtils.getArtifactFiles(artifacts, keys);
+		long lookupTime = System.currentTimeMillis() - start;
+		File[] files = keys.stream().map(artifactFiles::get).filter(Objects::nonNull).toArray(File[]::new);
+		TargetBundle[] created = new TargetBundle[files.length];
+		CoreException[] errors = new CoreException[files.length];
+		IntStream.range(0, files.length).parallel().forEach(i -> {
+			try {
+				created[i] = new TargetBundle(files[i]);
+			} catch (CoreException e) {
+				errors[i] = e;
 			}
+		});
 
-			if( file == null){
-				file = repo.getArtifactFile(artifactKey);
-				if (file != null) {
-					Map<IFileArtifactRepository, File> repoFile = new ConcurrentHashMap<>();
-					repoFile.put(repo, file);
-					P2TargetUtils.fgArtifactKeyRepoFile.putIfAbsent(artifactKey, repoFile);
-				}
-			}
-			if (file != null) {
-				TargetBundle bundle = new TargetBundle(file);
-				bundles.put(bundle.getBundleInfo(), bundle);
+		Map<BundleInfo, TargetBundle> bundles = new LinkedHashMap<>();
+		for (int i = 0; i < created.length; i++) {
+			if (errors[i] != null) {
+				throw errors[i];
 			}
+			bundles.put(created[i].getBundleInfo(), created[i]);
 		}
+		if (PDECore.DEBUG_TARGET_PROFILE) {
+			System.out.println("Resolved " + files.length + " of " + keys.size() + " artifacts in " + (System.currentTimeMillis() - start) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " ms, artifact lookup took " + lookupTime + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return bundles;
 	}
 
 	@Override
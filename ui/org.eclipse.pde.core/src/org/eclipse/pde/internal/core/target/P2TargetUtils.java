@@ -71,6 +71,8 @@ import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.IRepository;
 import org.eclipse.equinox.p2.repository.IRepositoryManager;
 import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.artifact.ArtifactDescriptorQuery;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRequest;
@@ -458,6 +460,57 @@ public class P2TargetUtils {
 		return (IFileArtifactRepository) result;
 	}
 
+	/**
+	 * Returns the files of the given artifacts in the given repository. Files
+	 * already known from {@link #fgArtifactKeyRepoFile} are reused, the
+	 * descriptors of the repository are queried once for all other keys.
+	 * Artifacts not available in the repository are not contained in the
+	 * returned map.
+	 *
+	 * @param repo the repository to look up the artifacts in
+	 * @param keys the artifacts to look up
+	 * @return map of artifact key to file
+	 */
+	static Map<IArtifactKey, File> getArtifactFiles(IFileArtifactRepository repo, Collection<IArtifactKey> keys) {
+		Map<IArtifactKey, File> files = new HashMap<>(keys.size());
+		Set<IArtifactKey> missing = new HashSet<>();
+		for (IArtifactKey key : keys) {
+			Map<IFileArtifactRepository, File> repoFiles = fgArtifactKeyRepoFile.get(key);
+			File file = repoFiles != null ? repoFiles.get(repo) : null;
+			if (file != null) {
+				files.put(key, file);
+			} else {
+				missing.add(key);
+			}
+		}
+		if (missing.isEmpty()) {
+			return files;
+		}
+		// only canonical descriptors, the repository selects among the others when asked by key
+		IQueryResult<IArtifactDescriptor> descriptors = repo.descriptorQueryable().query(ArtifactDescriptorQuery.ALL_DESCRIPTORS, null);
+		for (IArtifactDescriptor descriptor : descriptors) {
+			IArtifactKey key = descriptor.getArtifactKey();
+			if (missing.contains(key) && !files.containsKey(key) && descriptor.getProcessingSteps().length == 0) {
+				File file = repo.getArtifactFile(descriptor);
+				if (file != null) {
+					files.put(key, file);
+				}
+			}
+		}
+		for (IArtifactKey key : missing) {
+			File file = files.get(key);
+			if (file == null) {
+				file = repo.getArtifactFile(key);
+				if (file == null) {
+					continue;
+				}
+				files.put(key, file);
+			}
+			fgArtifactKeyRepoFile.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(repo, file);
+		}
+		return files;
+	}
+
 	/**
 	 * Returns the provisioning engine service.
 	 *
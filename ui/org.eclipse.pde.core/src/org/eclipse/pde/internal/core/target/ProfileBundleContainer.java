@@ -149,9 +149,17 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 		if (source == null) {
 			source = new BundleInfo[0];
 		}
+		// reuse the bundles of the previous resolution if no bundle changed
+		String cacheKey = TYPE + ' ' + home + ' ' + configurationArea;
+		long fingerprint = TargetBundleCache.fingerprint(concat(stream(infos), stream(source))
+				.map(info -> URIUtil.toFile(info.getLocation())).filter(Objects::nonNull).toArray(File[]::new));
+		TargetBundle[] cached = TargetBundleCache.read(cacheKey, fingerprint);
+		if (cached != null) {
+			return cached;
+		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, infos.length + source.length);
 
-		return concat(stream(infos), stream(source)).parallel().map(info -> {
+		TargetBundle[] bundles = concat(stream(infos), stream(source)).parallel().map(info -> {
 			URI location = info.getLocation();
 			try {
 				if (monitor.isCanceled()) {
@@ -164,6 +172,10 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 				localMonitor.split(1);
 			}
 		}).filter(Objects::nonNull).toArray(TargetBundle[]::new);
+		if (!monitor.isCanceled()) {
+			TargetBundleCache.write(cacheKey, fingerprint, bundles);
+		}
+		return bundles;
 	}
 
 	private Collection<TargetBundle> readBundleInfosFromConfigIni(File configArea, File home) {
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Persists the bundles a target location resolved to, so they can be restored
+ * without opening every bundle again when the location did not change.
+ * <p>
+ * An entry is stored per location key together with a fingerprint of the
+ * files the bundles were created from. The fingerprint covers the path,
+ * modification time and size of each file, or of the manifest of a directory
+ * bundle, so computing it only needs a file listing.
+ * </p>
+ * <p>
+ * The modification time of an entry is updated each time it is used. Entries
+ * that were not used for {@link #UNUSED_ENTRY_DAYS} days, such as those of
+ * locations removed from all targets, are deleted the first time an entry is
+ * stored in a session.
+ * </p>
+ */
+public final class TargetBundleCache {
+
+	/*
+	 * Resolved bundles of directory and installation locations are cached
+	 * between sessions, unless this property is set
+	 */
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.noTargetBundleCache"); //$NON-NLS-1$
+
+	private static final String CACHE_DIR = ".target_bundles"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 1;
+	private static final int UNUSED_ENTRY_DAYS = 30;
+
+	private static volatile boolean unusedEntriesDeleted;
+
+	private TargetBundleCache() {
+	}
+
+	/**
+	 * Bundle restored from the cache
+	 */
+	private static class CachedTargetBundle extends TargetBundle {
+		CachedTargetBundle(BundleInfo info, boolean isFragment, BundleInfo sourceTarget, String sourcePath) {
+			fInfo = info;
+			fIsFragment = isFragment;
+			fSourceTarget = sourceTarget;
+			fSourcePath = sourcePath;
+		}
+	}
+
+	/**
+	 * Returns a fingerprint of the given bundle files.
+	 *
+	 * @param files the jars and directories the bundles are created from
+	 * @return the fingerprint
+	 */
+	public static long fingerprint(File[] files) {
+		long hash = 0xcbf29ce484222325L;
+		for (File file : files) {
+			File stamped = file;
+			if (file.isDirectory()) {
+				File manifest = new File(file, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR);
+				if (manifest.isFile()) {
+					stamped = manifest;
+				}
+			}
+			hash = mix(hash, file.getAbsolutePath().hashCode());
+			hash = mix(hash, stamped.lastModified());
+			hash = mix(hash, stamped.length());
+		}
+		return hash;
+	}
+
+	private static long mix(long hash, long value) {
+		return (hash ^ value) * 0x100000001b3L;
+	}
+
+	/**
+	 * Returns the bundles cached for the given location, or <code>null</code>
+	 * if there is no entry or the entry was stored for another fingerprint.
+	 *
+	 * @param key the location, including its type
+	 * @param fingerprint the fingerprint of the current files of the location
+	 * @return the cached bundles or <code>null</code>
+	 */
+	public static TargetBundle[] read(String key, long fingerprint) {
+		File file = getCacheFile(key);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF()) || in.readLong() != fingerprint) {
+				return null;
+			}
+			TargetBundle[] bundles = new TargetBundle[in.readInt()];
+			for (int i = 0; i < bundles.length; i++) {
+				BundleInfo info = readBundleInfo(in);
+				boolean isFragment = in.readBoolean();
+				BundleInfo sourceTarget = in.readBoolean() ? readBundleInfo(in) : null;
+				String sourcePath = readString(in);
+				bundles[i] = new CachedTargetBundle(info, isFragment, sourceTarget, sourcePath);
+			}
+			// keep the entry from being deleted as unused
+			file.setLastModified(System.currentTimeMillis());
+			return bundles;
+		} catch (IOException | URISyntaxException e) {
+			// resolve the location again
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the bundles of the given location. Only valid bundles can be
+	 * cached, nothing is stored if one of the bundles has a problem.
+	 *
+	 * @param key the location, including its type
+	 * @param fingerprint the fingerprint of the files the bundles were created from
+	 * @param bundles the bundles of the location
+	 */
+	public static void write(String key, long fingerprint, TargetBundle[] bundles) {
+		File file = getCacheFile(key);
+		if (file == null) {
+			return;
+		}
+		for (TargetBundle bundle : bundles) {
+			if (!bundle.getStatus().isOK()) {
+				file.delete();
+				return;
+			}
+		}
+		File dir = file.getParentFile();
+		if (!unusedEntriesDeleted) {
+			unusedEntriesDeleted = true;
+			deleteUnusedEntries(dir);
+		}
+		dir.mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeUTF(key);
+			out.writeLong(fingerprint);
+			out.writeInt(bundles.length);
+			for (TargetBundle bundle : bundles) {
+				writeBundleInfo(out, bundle.getBundleInfo());
+				out.writeBoolean(bundle.isFragment());
+				BundleInfo sourceTarget = bundle.getSourceTarget();
+				out.writeBoolean(sourceTarget != null);
+				if (sourceTarget != null) {
+					writeBundleInfo(out, sourceTarget);
+				}
+				writeString(out, bundle.getSourcePath());
+			}
+		} catch (IOException e) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Deletes the entries of the given cache directory that were not used for
+	 * {@link #UNUSED_ENTRY_DAYS} days.
+	 */
+	private static void deleteUnusedEntries(File dir) {
+		File[] entries = dir.listFiles();
+		if (entries == null) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(UNUSED_ENTRY_DAYS);
+		for (File entry : entries) {
+			if (entry.lastModified() < oldest) {
+				entry.delete();
+			}
+		}
+	}
+
+	private static File getCacheFile(String key) {
+		if (DISABLED || PDECore.getDefault() == null) {
+			return null;
+		}
+		File dir = PDECore.getDefault().getStateLocation().append(CACHE_DIR).toFile();
+		return new File(dir, Integer.toHexString(key.hashCode()) + ".bin"); //$NON-NLS-1$
+	}
+
+	private static BundleInfo readBundleInfo(DataInputStream in) throws IOException, URISyntaxException {
+		String symbolicName = readString(in);
+		String version = readString(in);
+		String location = readString(in);
+		return new BundleInfo(symbolicName, version, location == null ? null : new URI(location), BundleInfo.NO_LEVEL, false);
+	}
+
+	private static void writeBundleInfo(DataOutputStream out, BundleInfo info) throws IOException {
+		writeString(out, info.getSymbolicName());
+		writeString(out, info.getVersion());
+		URI location = info.getLocation();
+		writeString(out, location == null ? null : location.toString());
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+}
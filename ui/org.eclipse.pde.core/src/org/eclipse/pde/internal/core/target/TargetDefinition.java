@@ -123,6 +123,9 @@ public class TargetDefinition implements ITargetDefinition {
 
 	private int fSequenceNumber = -1;
 
+	// bundles of the resolved locations with their index and the included bundles, see getResolvedBundles()
+	private ResolvedBundles fResolvedBundles;
+
 	/**
 	 * Constructs a target definition based on the given handle.
 	 */
@@ -312,6 +315,7 @@ public class TargetDefinition implements ITargetDefinition {
 		// Clear the feature model cache as it is based on the bundle container locations
 		fFeatures = null;
 		fOtherBundles = null;
+		fResolvedBundles = null;
 
 		if (locations != null && locations.length == 0) {
 			locations = null;
@@ -350,6 +354,7 @@ public class TargetDefinition implements ITargetDefinition {
 		// Clear the feature model cache as it is based on the bundle container locations
 		fFeatures = null;
 		fOtherBundles = null;
+		fResolvedBundles = null;
 		if (location == null) {
 			fFeaturesInLocation.clear();
 		} else {
@@ -382,6 +387,7 @@ public class TargetDefinition implements ITargetDefinition {
 			}
 		}
 		fResolutionStatus = null;
+		fResolvedBundles = null;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, num * 100);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
@@ -504,6 +510,10 @@ public class TargetDefinition implements ITargetDefinition {
 	@Override
 	public void setIncluded(NameVersionDescriptor[] included) {
 		fIncluded = included;
+		ResolvedBundles resolved = fResolvedBundles;
+		if (resolved != null) {
+			resolved.included = null;
+		}
 		if (included != null && fRoot != null) {
 			Arrays.sort(included, (o1, o2) -> {
 				int compareType = o1.getType().compareTo(o2.getType());
@@ -546,29 +556,136 @@ public class TargetDefinition implements ITargetDefinition {
 		if (isResolved()) {
 			ITargetLocation[] containers = getTargetLocations();
 			if (containers != null) {
-				List<TargetBundle> all = new ArrayList<>();
-				for (ITargetLocation container : containers) {
-					TargetBundle[] bundles = container.getBundles();
-					if (bundles != null) {
-						Collections.addAll(all, bundles);
-					}
-				}
-
-				TargetBundle[] allResolvedBundles = all.toArray(new TargetBundle[all.size()]);
+				ResolvedBundles resolved = getResolvedBundles(containers);
 				if (allBundles) {
-					return allResolvedBundles;
+					return resolved.all.clone();
 				}
-				return filterBundles(allResolvedBundles, getIncluded());
+				TargetBundle[] included = resolved.included;
+				if (included == null) {
+					included = filterBundles(resolved, getIncluded());
+					resolved.included = included;
+				}
+				return included.clone();
 			}
 			return new TargetBundle[0];
 		}
 		return null;
 	}
 
-	private TargetBundle[] filterBundles(TargetBundle[] bundles, NameVersionDescriptor[] filter) {
+	/**
+	 * Returns the bundles of the given resolved locations. The bundles are only
+	 * collected again when one of the locations returns other bundles than the
+	 * last time, i.e. when it was resolved again.
+	 *
+	 * @param containers resolved locations of this target
+	 * @return bundles of the locations
+	 */
+	private ResolvedBundles getResolvedBundles(ITargetLocation[] containers) {
+		TargetBundle[][] sources = new TargetBundle[containers.length][];
+		for (int i = 0; i < containers.length; i++) {
+			sources[i] = containers[i].getBundles();
+		}
+		ResolvedBundles resolved = fResolvedBundles;
+		if (resolved == null || !resolved.isFrom(sources)) {
+			resolved = new ResolvedBundles(sources);
+			fResolvedBundles = resolved;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Bundles of the locations of a resolved target. Keeps the arrays returned
+	 * by the locations to detect that they changed, the index of the bundles
+	 * and the included bundles computed from it.
+	 */
+	private static class ResolvedBundles {
+		private final TargetBundle[][] sources;
+		final TargetBundle[] all;
+		private BundleIndex index;
+		// bundles matching the includes of the target, computed on first request
+		TargetBundle[] included;
+
+		ResolvedBundles(TargetBundle[][] sources) {
+			this.sources = sources;
+			List<TargetBundle> bundles = new ArrayList<>();
+			for (TargetBundle[] source : sources) {
+				if (source != null) {
+					Collections.addAll(bundles, source);
+				}
+			}
+			all = bundles.toArray(new TargetBundle[bundles.size()]);
+		}
+
+		boolean isFrom(TargetBundle[][] otherSources) {
+			if (sources.length != otherSources.length) {
+				return false;
+			}
+			for (int i = 0; i < sources.length; i++) {
+				if (sources[i] != otherSources[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		BundleIndex getIndex() {
+			if (index == null) {
+				index = new BundleIndex(all);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Index of a collection of bundles by symbolic name. Keeps, per name, the
+	 * bundles in the order of the collection and the bundle with the newest
+	 * version.
+	 */
+	static class BundleIndex {
+		private final Map<String, List<TargetBundle>> fBundlesByName;
+		private final Map<String, TargetBundle> fNewestByName;
+
+		BundleIndex(TargetBundle[] collection) {
+			fBundlesByName = new HashMap<>(collection.length);
+			fNewestByName = new HashMap<>(collection.length);
+			for (TargetBundle bundle : collection) {
+				String name = bundle.getBundleInfo().getSymbolicName();
+				fBundlesByName.computeIfAbsent(name, n -> new ArrayList<>(3)).add(bundle);
+				TargetBundle newest = fNewestByName.get(name);
+				// the last of the bundles with the highest version wins
+				if (newest == null || compareVersions(bundle, newest) >= 0) {
+					fNewestByName.put(name, bundle);
+				}
+			}
+		}
+
+		private static int compareVersions(TargetBundle o1, TargetBundle o2) {
+			BundleInfo b1 = o1.getBundleInfo();
+			BundleInfo b2 = o2.getBundleInfo();
+			try {
+				Version v1 = Version.create(b1.getVersion());
+				Version v2 = Version.create(b2.getVersion());
+				return v1.compareTo(v2);
+			} catch (IllegalArgumentException e) {
+				// If one of the bundles has a bad version
+				PDECore.log(e);
+				return b1.getVersion().compareTo(b2.getVersion());
+			}
+		}
+
+		List<TargetBundle> getBundles(String symbolicName) {
+			return fBundlesByName.get(symbolicName);
+		}
+
+		TargetBundle getNewest(String symbolicName) {
+			return fNewestByName.get(symbolicName);
+		}
+	}
+
+	private TargetBundle[] filterBundles(ResolvedBundles bundles, NameVersionDescriptor[] filter) {
 		if (filter == null) {
 			// No filtering to do
-			return bundles;
+			return bundles.all;
 		}
 		if (filter.length == 0) {
 			return new TargetBundle[0];
@@ -625,7 +742,7 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 
 		// Return matching bundles, if we are organizing by feature, do not create invalid target bundles for missing bundle includes
-		List<TargetBundle> result = getMatchingBundles(bundles, included.toArray(new NameVersionDescriptor[included.size()]), !containsFeatures);
+		List<TargetBundle> result = getMatchingBundles(bundles.getIndex(), included.toArray(new NameVersionDescriptor[included.size()]), !containsFeatures);
 
 		// Add in missing features as resolved bundles with error statuses
 		if (containsFeatures && !missingFeatures.isEmpty()) {
@@ -661,21 +778,26 @@ public class TargetDefinition implements ITargetDefinition {
 			result.addAll(Arrays.asList(collection));
 			return result;
 		}
-		// map bundles names to available versions
-		Map<String, List<TargetBundle>> bundleMap = new HashMap<>(collection.length);
-		for (TargetBundle resolved : collection) {
-			List<TargetBundle> list = bundleMap.get(resolved.getBundleInfo().getSymbolicName());
-			if (list == null) {
-				list = new ArrayList<>(3);
-				bundleMap.put(resolved.getBundleInfo().getSymbolicName(), list);
-			}
-			list.add(resolved);
-		}
+		return getMatchingBundles(new BundleIndex(collection), included, handleMissingBundles);
+	}
+
+	/**
+	 * Returns bundles from the specified index that match the symbolic names
+	 * and/or version in the specified criteria, see
+	 * {@link #getMatchingBundles(TargetBundle[], NameVersionDescriptor[], boolean)}.
+	 *
+	 * @param index index of the bundles to resolve against match criteria
+	 * @param included bundles to include
+	 * @param handleMissingBundles whether to create {@link InvalidTargetBundle}s for missing includes
+	 *
+	 * @return list of IResolvedBundle bundles that match this container's restrictions
+	 */
+	private static List<TargetBundle> getMatchingBundles(BundleIndex index, NameVersionDescriptor[] included, boolean handleMissingBundles) {
 		List<TargetBundle> resolved = new ArrayList<>();
 
 		for (NameVersionDescriptor element : included) {
 			BundleInfo info = new BundleInfo(element.getId(), element.getVersion(), null, BundleInfo.NO_LEVEL, false);
-			TargetBundle bundle = resolveBundle(bundleMap, info, handleMissingBundles);
+			TargetBundle bundle = resolveBundle(index, info, handleMissingBundles);
 			if (bundle != null) {
 				resolved.add(bundle);
 			}
@@ -685,9 +807,8 @@ public class TargetDefinition implements ITargetDefinition {
 	}
 
 	/**
-	 * Resolves a bundle for the given info from the given map. The map contains
-	 * keys of symbolic names and values are lists of {@link TargetBundle}'s available
-	 * that match the names.
+	 * Resolves a bundle for the given info from the given index of the
+	 * {@link TargetBundle}'s available by symbolic name.
 	 * <p>
 	 * If handleMissingBundles is <code>true</code>, a {@link InvalidTargetBundle} will be created and
 	 * returned if the give info does not match up with a map entry. The returned bundle will have
@@ -695,36 +816,18 @@ public class TargetDefinition implements ITargetDefinition {
 	 * <code>null</code> will be returned.
 	 * </p>
 	 *
-	 * @param bundleMap available bundles to resolve against
+	 * @param index available bundles to resolve against
 	 * @param info name and version to match against
 	 * @param handleMissingBundles whether to return an {@link InvalidTargetBundle} for a info that does not match with a map entry or <code>null</code>
 	 * @return resolved bundle or <code>null</code>
 	 */
-	private static TargetBundle resolveBundle(Map<String, List<TargetBundle>> bundleMap, BundleInfo info, boolean handleMissingBundles) {
-		List<TargetBundle> list = bundleMap.get(info.getSymbolicName());
+	private static TargetBundle resolveBundle(BundleIndex index, BundleInfo info, boolean handleMissingBundles) {
+		List<TargetBundle> list = index.getBundles(info.getSymbolicName());
 		if (list != null) {
 			String version = info.getVersion();
 			if (version == null || version.equals(BundleInfo.EMPTY_VERSION)) {
 				// select newest
-				if (list.size() > 1) {
-					// sort the list
-					Collections.sort(list, (o1, o2) -> {
-						BundleInfo b1 = o1.getBundleInfo();
-						BundleInfo b2 = o2.getBundleInfo();
-						try {
-							Version v1 = Version.create(b1.getVersion());
-							Version v2 = Version.create(b2.getVersion());
-							return v1.compareTo(v2);
-						} catch (IllegalArgumentException e) {
-							// If one of the bundles has a bad version
-							PDECore.log(e);
-							return b1.getVersion().compareTo(b2.getVersion());
-						}
-					});
-				}
-				// select the last one
-				TargetBundle rb = list.get(list.size() - 1);
-				return rb;
+				return index.getNewest(info.getSymbolicName());
 			}
 			Iterator<TargetBundle> iterator = list.iterator();
 			while (iterator.hasNext()) {
@@ -790,6 +893,7 @@ public class TargetDefinition implements ITargetDefinition {
 			fImplicit = null;
 			fJREContainer = null;
 			fIncluded = null;
+			fResolvedBundles = null;
 			fName = null;
 			fNL = null;
 			fOS = null;
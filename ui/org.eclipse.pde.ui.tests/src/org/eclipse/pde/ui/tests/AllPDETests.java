@@ -51,6 +51,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	ProjectCreationTests.class,
 	BundleRootTests.class,
 	PluginRegistryTests.class,
+	WorkspaceExtensionsModelTests.class,
 	ClasspathResolverTest.class,
 	ClasspathContributorTest.class,
 	DynamicPluginProjectReferencesTest.class,
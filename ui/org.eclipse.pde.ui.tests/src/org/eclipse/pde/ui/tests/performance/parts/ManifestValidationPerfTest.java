@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import org.eclipse.core.resources.*;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the validation of the manifests and build.properties of a
+ * synthetic workspace of plug-in projects. The projects have no Java nature,
+ * so their build only runs the PDE builders. The build is measured with
+ * projects built one after the other and with projects built concurrently,
+ * which lets the manifest builder validate several projects at once.
+ */
+public class ManifestValidationPerfTest extends PerformanceTestCase {
+
+	private static final int PROJECT_COUNT = 500;
+
+	private int fMaxConcurrentBuilds;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fMaxConcurrentBuilds = ResourcesPlugin.getWorkspace().getDescription().getMaxConcurrentBuilds();
+		for (int i = 0; i < PROJECT_COUNT; i++) {
+			ProjectUtils.createPluginProject("ManifestValidationPerf_" + i, "manifest.validation.perf" + i, "1.0.0");
+		}
+	}
+
+	public void testFullBuild() throws Exception {
+		setMaxConcurrentBuilds(1);
+		measureFullBuild();
+	}
+
+	public void testConcurrentFullBuild() throws Exception {
+		tagAsSummary("Validate " + PROJECT_COUNT + " plug-in projects concurrently", Dimension.ELAPSED_PROCESS);
+		setMaxConcurrentBuilds(Runtime.getRuntime().availableProcessors());
+		measureFullBuild();
+	}
+
+	private void measureFullBuild() throws Exception {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+
+		// Warm-up Iterations
+		for (int i = 0; i < 2; i++) {
+			workspace.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+			workspace.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		}
+		// Test Iterations
+		for (int i = 0; i < 10; i++) {
+			workspace.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+			startMeasuring();
+			workspace.build(IncrementalProjectBuilder.FULL_BUILD, null);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void setMaxConcurrentBuilds(int builds) throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription description = workspace.getDescription();
+		description.setMaxConcurrentBuilds(builds);
+		workspace.setDescription(description);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		setMaxConcurrentBuilds(fMaxConcurrentBuilds);
+		for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+			if (project.getName().startsWith("ManifestValidationPerf_")) {
+				project.delete(true, true, null);
+			}
+		}
+		super.tearDown();
+	}
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.IModelChangedEvent;
+import org.eclipse.pde.core.plugin.IExtensions;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.internal.core.plugin.WorkspaceExtensionsModel;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests a {@link WorkspaceExtensionsModel} that parses its file on demand.
+ */
+public class WorkspaceExtensionsModelTests {
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private IFile fFile;
+
+	@Before
+	public void setUp() throws CoreException {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("test.extensions.model");
+		project.create(null);
+		project.open(null);
+		fFile = project.getFile("plugin.xml");
+		fFile.create(toStream(getPluginXml("a.point")), true, null);
+	}
+
+	/**
+	 * Tests that the file is only parsed once the content is accessed and that
+	 * the state of the model is known without parsing it.
+	 */
+	@Test
+	public void testLoadOnDemand() {
+		WorkspaceExtensionsModel model = createModel();
+		int loads = WorkspaceExtensionsModel.getOnDemandStatistics()[1];
+		assertTrue("The model should be loaded", model.isLoaded());
+		assertTrue("The model should be valid", model.isValid());
+		assertTrue("The model should be in sync", model.isInSync());
+		assertFalse("The file should not be parsed", model.isContentLoaded());
+		assertEquals("The file should not be parsed", loads, WorkspaceExtensionsModel.getOnDemandStatistics()[1]);
+
+		IExtensions extensions = model.getExtensions();
+		assertTrue("The file should be parsed", model.isContentLoaded());
+		assertEquals("The extension should be read", "a.point", extensions.getExtensions()[0].getPoint());
+		assertTrue("The model should be valid", model.isValid());
+		assertEquals("The file should be parsed once", loads + 1, WorkspaceExtensionsModel.getOnDemandStatistics()[1]);
+	}
+
+	/**
+	 * Tests that the content is parsed once and the same objects are returned
+	 * on every access.
+	 */
+	@Test
+	public void testContentIdentity() {
+		WorkspaceExtensionsModel model = createModel();
+		IExtensions extensions = model.getExtensions();
+		IPluginExtension extension = extensions.getExtensions()[0];
+		int loads = WorkspaceExtensionsModel.getOnDemandStatistics()[1];
+		assertSame("The content should be kept", extensions, model.getExtensions());
+		assertSame("The content should be kept", extensions, model.getExtensions(false));
+		assertSame("The extension should be kept", extension, model.getExtensions().getExtensions()[0]);
+		assertEquals("The file should not be parsed again", loads, WorkspaceExtensionsModel.getOnDemandStatistics()[1]);
+	}
+
+	/**
+	 * Tests that a change of the file before the content is first accessed is
+	 * read on that access.
+	 */
+	@Test
+	public void testChangeBeforeAccess() throws CoreException {
+		WorkspaceExtensionsModel model = createModel();
+		fFile.setContents(toStream(getPluginXml("b.point")), true, false, null);
+		assertFalse("The file should not be parsed", model.isContentLoaded());
+		assertEquals("The changed extension should be read", "b.point", model.getExtensions().getExtensions()[0].getPoint());
+	}
+
+	/**
+	 * Tests that a reload updates the content that was handed out and notifies
+	 * the listeners of the model.
+	 */
+	@Test
+	public void testReload() throws CoreException {
+		WorkspaceExtensionsModel model = createModel();
+		IExtensions extensions = model.getExtensions();
+		List<IModelChangedEvent> events = new ArrayList<>();
+		model.addModelChangedListener(events::add);
+
+		fFile.setContents(toStream(getPluginXml("b.point")), true, false, null);
+		model.reload(fFile.getContents(), false);
+		assertEquals("One event should be fired", 1, events.size());
+		IModelChangedEvent event = events.get(0);
+		assertEquals("The whole model should change", IModelChangedEvent.WORLD_CHANGED, event.getChangeType());
+		assertSame("The event should carry the content", extensions, event.getChangedObjects()[0]);
+		assertSame("The content should be kept", extensions, model.getExtensions());
+		assertEquals("The changed extension should be read", "b.point", extensions.getExtensions()[0].getPoint());
+		assertTrue("The model should be in sync", model.isInSync());
+	}
+
+	private WorkspaceExtensionsModel createModel() {
+		WorkspaceExtensionsModel model = new WorkspaceExtensionsModel(fFile);
+		model.setEditable(false);
+		model.setLoadOnDemand(true);
+		return model;
+	}
+
+	private static String getPluginXml(String point) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>\n<extension point=\""
+				+ point + "\"/>\n</plugin>\n";
+	}
+
+	private static ByteArrayInputStream toStream(String contents) {
+		return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+	}
+}
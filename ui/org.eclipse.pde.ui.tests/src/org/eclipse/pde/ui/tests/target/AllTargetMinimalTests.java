@@ -25,6 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
 	TargetEnvironmentTestCase.class, //
+	TargetReloadTests.class, //
 	TargetPlatformHelperTests.class, //
 	// LocalTargetDefinitionTests.class,
 	// WorkspaceTargetDefinitionTests.class
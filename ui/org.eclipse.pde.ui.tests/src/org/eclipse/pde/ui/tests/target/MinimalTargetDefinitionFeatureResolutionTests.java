@@ -13,18 +13,32 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.target;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.stream.Stream;
 import org.eclipse.core.runtime.*;
+import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelProviderEvent;
 import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.*;
+import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.core.ifeature.IFeatureURLElement;
 import org.junit.Test;
 
 /**
@@ -365,4 +379,135 @@ public class MinimalTargetDefinitionFeatureResolutionTests extends AbstractTarge
 		assertTrue(definition.getBundles().length > 4);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that reloading the features of a target reuses the models of
+	 * unchanged feature.xml files and only reports the models of changed
+	 * files as added and removed
+	 */
+	@Test
+	public void testFeatureModelReuse() throws Exception {
+		File features = copyModifiedFeatures();
+		try {
+			ExternalFeatureModelManager manager = new ExternalFeatureModelManager();
+			List<IModelProviderEvent> events = new ArrayList<>();
+			manager.addModelProviderListener(events::add);
+
+			manager.initialize(getTargetFeatures(features));
+			assertEquals("Wrong number of events", 1, events.size());
+			IFeatureModel[] models = manager.getModels();
+			assertEquals("Wrong number of models", 2, models.length);
+			assertEquals("All models should be added", 2, events.get(0).getAddedModels().length);
+			assertEquals("No model should be removed", 0, events.get(0).getRemovedModels().length);
+
+			manager.initialize(getTargetFeatures(features));
+			assertEquals("Unchanged features should not fire an event", 1, events.size());
+			assertArrayEquals("Unchanged features should reuse their models", models, manager.getModels());
+
+			IFeatureModel changed = getModel(models, "org.eclipse.jdt");
+			IFeatureModel unchanged = getModel(models, "org.eclipse.jdt.source");
+			Path manifest = new File(changed.getInstallLocation(), "feature.xml").toPath();
+			Files.writeString(manifest, Files.readString(manifest) + "\n");
+			manager.initialize(getTargetFeatures(features));
+			assertEquals("The changed feature should fire an event", 2, events.size());
+			IModelProviderEvent event = events.get(1);
+			assertEquals("Wrong event type", IModelProviderEvent.MODELS_ADDED | IModelProviderEvent.MODELS_REMOVED,
+					event.getEventTypes());
+			assertArrayEquals("Only the old model of the changed feature should be removed",
+					new IModel[] { changed }, event.getRemovedModels());
+			assertEquals("Only the new model of the changed feature should be added", 1,
+					event.getAddedModels().length);
+			IFeatureModel reloaded = getModel(manager.getModels(), "org.eclipse.jdt");
+			assertSame("The new model should be added", reloaded, event.getAddedModels()[0]);
+			assertNotSame("The changed feature should be parsed again", changed, reloaded);
+			assertSame("The unchanged feature should reuse its model", unchanged,
+					getModel(manager.getModels(), "org.eclipse.jdt.source"));
+		} finally {
+			delete(features.getParentFile());
+		}
+	}
+
+	/**
+	 * Tests that a new feature model manager restores the models persisted by
+	 * a previous one for feature.xml files with the same time stamp and size
+	 */
+	@Test
+	public void testPersistedFeatureModels() throws Exception {
+		File features = copyModifiedFeatures();
+		try {
+			new ExternalFeatureModelManager().initialize(getTargetFeatures(features));
+
+			IFeatureModel parsed = ExternalFeatureModelManager.createModel(getManifest(features, "org.eclipse.jdt_"));
+			// a change that keeps the time stamp and size of the file is not detected
+			Path manifest = getManifest(features, "org.eclipse.jdt_").toPath();
+			FileTime modified = Files.getLastModifiedTime(manifest);
+			Files.writeString(manifest, Files.readString(manifest).replace("id=\"org.junit4\"", "id=\"org.junitX\""));
+			Files.setLastModifiedTime(manifest, modified);
+
+			ExternalFeatureModelManager manager = new ExternalFeatureModelManager();
+			manager.initialize(getTargetFeatures(features));
+			IFeatureModel restored = getModel(manager.getModels(), "org.eclipse.jdt");
+			assertTrue("The restored model should be loaded", restored.isLoaded());
+			assertTrue("The restored model should be valid", restored.isValid());
+			assertEquals("The restored model should have the install location", parsed.getInstallLocation(),
+					restored.getInstallLocation());
+			assertEquals("The restored model should have the version", parsed.getFeature().getVersion(),
+					restored.getFeature().getVersion());
+			IFeaturePlugin[] plugins = restored.getFeature().getPlugins();
+			assertEquals("The restored model should have all plug-ins", parsed.getFeature().getPlugins().length,
+					plugins.length);
+			assertTrue("The restored model should be the persisted one",
+					Arrays.stream(plugins).anyMatch(plugin -> "org.junit4".equals(plugin.getId())));
+			for (IFeaturePlugin plugin : plugins) {
+				assertSame("The plug-ins should belong to the restored model", restored, plugin.getModel());
+				assertSame("The plug-ins should belong to the restored feature", restored.getFeature(),
+						plugin.getParent());
+			}
+			IFeatureURLElement update = restored.getFeature().getURL().getUpdate();
+			assertSame("The update site should belong to the restored model", restored, update.getModel());
+			assertSame("The update site should belong to the URL", restored.getFeature().getURL(), update.getParent());
+		} finally {
+			delete(features.getParentFile());
+		}
+	}
+
+	/**
+	 * Copies the modified JDT features to a new directory and returns the
+	 * directory of the copied features
+	 */
+	private File copyModifiedFeatures() throws Exception {
+		Path source = extractModifiedFeatures().append("features").toFile().toPath();
+		Path target = Files.createTempDirectory("feature-models").resolve("features");
+		try (Stream<Path> walk = Files.walk(source)) {
+			for (Path path : (Iterable<Path>) walk::iterator) {
+				Files.copy(path, target.resolve(source.relativize(path).toString()));
+			}
+		}
+		return target.toFile();
+	}
+
+	private TargetFeature[] getTargetFeatures(File features) throws CoreException {
+		File[] directories = features.listFiles(File::isDirectory);
+		Arrays.sort(directories);
+		TargetFeature[] result = new TargetFeature[directories.length];
+		for (int i = 0; i < directories.length; i++) {
+			result[i] = new TargetFeature(new File(directories[i], "feature.xml"));
+		}
+		return result;
+	}
+
+	private File getManifest(File features, String prefix) {
+		File[] directories = features.listFiles(file -> file.getName().startsWith(prefix));
+		assertEquals("Wrong number of feature directories", 1, directories.length);
+		return new File(directories[0], "feature.xml");
+	}
+
+	private IFeatureModel getModel(IFeatureModel[] models, String id) {
+		for (IFeatureModel model : models) {
+			if (id.equals(model.getFeature().getId())) {
+				return model;
+			}
+		}
+		fail("Missing feature model " + id);
+		return null;
+	}
+}
@@ -19,15 +19,26 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.*;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
 import org.junit.Test;
+import org.osgi.framework.Constants;
 
 /**
  * Runs on minimal bundles and don't require full eclipse SDK.This class is
@@ -363,6 +374,57 @@ public class MinimalTargetDefinitionResolutionTests extends AbstractTargetTest {
 		assertTrue(containerB.getIncludeSource());
 	}
 
+	/**
+	 * Tests that a directory location resolved again gives the same bundles,
+	 * and that a bundle changed since the previous resolution is read again.
+	 */
+	@Test
+	public void testDirectoryResolutionAfterBundleChange() throws Exception {
+		File plugins = extractAbcdePlugins().append("plugins").toFile();
+		Map<String, String> versions = resolveDirectoryVersions(plugins);
+		assertEquals("Wrong number of bundles", 10, versions.size());
+		assertEquals("Wrong version", "1.0.0", versions.get("bundle.a"));
+
+		assertEquals("Resolving again should give the same bundles", versions, resolveDirectoryVersions(plugins));
+
+		File jar = new File(plugins, "bundle.a_1.0.0.jar");
+		long modified = jar.lastModified();
+		setBundleVersion(jar, "1.0.1");
+		assertTrue("Unable to set the modification time", jar.setLastModified(modified + 2000));
+		versions = resolveDirectoryVersions(plugins);
+		assertEquals("Wrong number of bundles", 10, versions.size());
+		assertEquals("The changed bundle should be read again", "1.0.1", versions.get("bundle.a"));
+	}
+
+	private Map<String, String> resolveDirectoryVersions(File directory) throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation container = getTargetService().newDirectoryLocation(directory.getAbsolutePath());
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		IStatus status = definition.resolve(null);
+		assertTrue("Resolution failed: " + status, status.isOK());
+		Map<String, String> versions = new HashMap<>();
+		for (BundleInfo info : getBundleInfos(container)) {
+			versions.put(info.getSymbolicName(), info.getVersion());
+		}
+		return versions;
+	}
+
+	private void setBundleVersion(File jar, String version) throws Exception {
+		byte[] contents = Files.readAllBytes(jar.toPath());
+		try (JarInputStream in = new JarInputStream(new ByteArrayInputStream(contents))) {
+			Manifest manifest = in.getManifest();
+			manifest.getMainAttributes().putValue(Constants.BUNDLE_VERSION, version);
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+				JarEntry entry;
+				while ((entry = in.getNextJarEntry()) != null) {
+					out.putNextEntry(new JarEntry(entry.getName()));
+					out.write(in.readAllBytes());
+					out.closeEntry();
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testNameVersionDescriptor() {
 		NameVersionDescriptor d1 = new NameVersionDescriptor("a.b.c", "1.0.0");
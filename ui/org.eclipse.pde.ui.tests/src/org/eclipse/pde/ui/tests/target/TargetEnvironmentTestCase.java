@@ -13,21 +13,40 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.target;
 
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Path;
 import java.util.Dictionary;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
 import org.osgi.framework.Constants;
 
 public class TargetEnvironmentTestCase {
+	@Rule
+	public final TestRule restoreTarget = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testOS() {
 		assertEquals(Platform.getOS(), TargetPlatform.getOS());
@@ -130,4 +149,35 @@ public class TargetEnvironmentTestCase {
 		}
 	}
 
+	/**
+	 * Tests that reloading the same target bundles for another operating
+	 * system resolves the state with the platform properties of that system
+	 */
+	@Test
+	public void testStateResolvedForChangedEnvironment() throws Exception {
+		String bundleId = "target.environment.filtered";
+		String os = "testos";
+		Path jarDirectory = folder.newFolder("TPJarsDirectory").toPath();
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(bundle(bundleId, "1.0.0",
+				Map.entry(ICoreConstants.PLATFORM_FILTER, "(" + ICoreConstants.OSGI_OS + "=" + os + ")"))), List.of(),
+				jarDirectory);
+		IPluginModelBase model = PluginRegistry.findModel(bundleId);
+		assertNotNull(model);
+		assertFalse(model.getBundleDescription().isResolved());
+
+		ITargetDefinition current = TargetPlatformUtil.TPS.getWorkspaceTargetDefinition();
+		ITargetDefinition target = TargetPlatformUtil.TPS.newTarget();
+		target.setOS(os);
+		target.setWS(current.getWS());
+		target.setArch(current.getArch());
+		target.setNL(current.getNL());
+		target.setTargetLocations(current.getTargetLocations());
+		target.setIncluded(current.getIncluded());
+		TargetPlatformUtil.loadAndSetTarget(target);
+
+		assertEquals(os, TargetPlatform.getOS());
+		model = PluginRegistry.findModel(bundleId);
+		assertNotNull(model);
+		assertTrue(model.getBundleDescription().isResolved());
+	}
 }
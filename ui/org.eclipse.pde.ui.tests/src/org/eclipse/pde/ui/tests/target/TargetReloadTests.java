@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests reloading a target whose bundles changed, which is applied to the
+ * existing models as a diff of the target bundles.
+ */
+public class TargetReloadTests {
+	@Rule
+	public final TestRule restoreTarget = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private static final String JAR_BUNDLE = "target.reload.jar";
+	private static final String DIRECTORY_BUNDLE = "target.reload.directory";
+	private static final String ADDED_BUNDLE = "target.reload.added";
+
+	/**
+	 * Tests that a reload keeps the models of unchanged bundles and fires a
+	 * delta with the removed, added and changed bundles, where a directory
+	 * bundle changes when only its plugin.xml changes.
+	 */
+	@Test
+	public void testIncrementalReload() throws Exception {
+		Path root = folder.newFolder("TPJarsDirectory").toPath();
+		Map<NameVersionDescriptor, Map<String, String>> bundles = new LinkedHashMap<>();
+		for (int i = 0; i < 10; i++) {
+			bundles.put(new NameVersionDescriptor(JAR_BUNDLE + i, "1.0.0"), Map.of());
+		}
+		TargetPlatformUtil.setDummyBundlesAsTarget(bundles, List.of(), root);
+		Path plugins = root.resolve("plugins");
+		Path directory = plugins.resolve(DIRECTORY_BUNDLE + "_1.0.0");
+		Files.createDirectories(directory.resolve("META-INF"));
+		try (var out = Files.newOutputStream(directory.resolve(JarFile.MANIFEST_NAME))) {
+			createManifest(DIRECTORY_BUNDLE + ";singleton:=true").write(out);
+		}
+		Path pluginXml = directory.resolve("plugin.xml");
+		Files.writeString(pluginXml, getPluginXml("a.point"), StandardCharsets.UTF_8);
+
+		ITargetLocation location = TargetPlatformUtil.TPS.newDirectoryLocation(root.toString());
+		TargetPlatformUtil.createAndSetTarget(null, List.of(location), null);
+		IPluginModelBase unchanged = PluginRegistry.findModel(JAR_BUNDLE + 1);
+		IPluginModelBase directoryModel = PluginRegistry.findModel(DIRECTORY_BUNDLE);
+		assertNotNull(unchanged);
+		assertNotNull(directoryModel);
+		assertNotNull(PluginRegistry.findModel(JAR_BUNDLE + 0));
+		assertNull(PluginRegistry.findModel(ADDED_BUNDLE));
+
+		Files.delete(plugins.resolve(JAR_BUNDLE + "0_1.0.0.jar"));
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(plugins.resolve(ADDED_BUNDLE + "_1.0.0.jar")))) {
+			out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			createManifest(ADDED_BUNDLE).write(out);
+		}
+		long modified = Files.getLastModifiedTime(pluginXml).toMillis();
+		Files.writeString(pluginXml, getPluginXml("b.point"), StandardCharsets.UTF_8);
+		pluginXml.toFile().setLastModified(modified + 2000);
+
+		List<PluginModelDelta> deltas = new ArrayList<>();
+		IPluginModelListener listener = deltas::add;
+		PluginModelManager.getInstance().addPluginModelListener(listener);
+		try {
+			TargetPlatformUtil.createAndSetTarget(null, List.of(TargetPlatformUtil.TPS.newDirectoryLocation(root.toString())), null);
+		} finally {
+			PluginModelManager.getInstance().removePluginModelListener(listener);
+		}
+
+		assertSame("The model of an unchanged bundle should be kept", unchanged, PluginRegistry.findModel(JAR_BUNDLE + 1));
+		assertNull(PluginRegistry.findModel(JAR_BUNDLE + 0));
+		assertNotNull(PluginRegistry.findModel(ADDED_BUNDLE));
+		assertNotSame("The model of the changed bundle should be recreated", directoryModel, PluginRegistry.findModel(DIRECTORY_BUNDLE));
+
+		Set<String> added = new HashSet<>();
+		Set<String> removed = new HashSet<>();
+		Set<String> changed = new HashSet<>();
+		for (PluginModelDelta delta : deltas) {
+			addIds(added, delta.getAddedEntries());
+			addIds(removed, delta.getRemovedEntries());
+			addIds(changed, delta.getChangedEntries());
+		}
+		assertEquals(Set.of(ADDED_BUNDLE), added);
+		assertEquals(Set.of(JAR_BUNDLE + 0), removed);
+		assertEquals(Set.of(DIRECTORY_BUNDLE), changed);
+	}
+
+	private static void addIds(Set<String> ids, ModelEntry[] entries) {
+		for (ModelEntry entry : entries) {
+			ids.add(entry.getId());
+		}
+	}
+
+	private static Manifest createManifest(String symbolicName) {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+		return manifest;
+	}
+
+	private static String getPluginXml(String point) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>\n<extension point=\""
+				+ point + "\"/>\n</plugin>\n";
+	}
+}
@@ -51,9 +51,23 @@ public class WorkspaceProductModelManager extends WorkspaceModelManager<Collecti
 		}
 	}
 
-	private void createSingleModel(IProject project, IFile product, boolean notify) {
+	@Override
+	protected Collection<IProductModel> newModel(IProject project) {
+		Collection<IProductModel> models = new ArrayList<>();
+		for (IFile product : findProductFiles(project, true)) {
+			models.add(newSingleModel(product));
+		}
+		return models.isEmpty() ? null : models;
+	}
+
+	private IProductModel newSingleModel(IFile product) {
 		IProductModel model = new WorkspaceProductModel(product, true);
 		loadModel(model, false);
+		return model;
+	}
+
+	private void createSingleModel(IProject project, IFile product, boolean notify) {
+		IProductModel model = newSingleModel(product);
 
 		Collection<IProductModel> models = getModelsMap().computeIfAbsent(project, key -> new ArrayList<>());
 		models.add(model);